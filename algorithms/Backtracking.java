@@ -1,46 +1,52 @@
 package algorithms;
 
+import structures.BoardGeometry;
+
 public class Backtracking implements RMIT_Sudoku_Solver {
     private boolean enableDetailedLogs = false;
-    private int stepCount = 0;
+    private int stepCount = 0; // per-instance state: use one Backtracking per thread
+    private int boxSize = 3; // box dimension of the board being solved
 
     @Override
-    public int[][] solve(int[][] board) {
+    public int[][] solve(int[][] board, SolveContext context) {
         if (!isValidBoard(board)) {
             throw new IllegalArgumentException("Invalid puzzle board input.");
         }
 
-        long startTime = System.currentTimeMillis();
         stepCount = 0;
+        boxSize = BoardGeometry.boxSizeOf(board.length);
 
-        if (BacktrackingRecursive(board, startTime)) {
+        if (BacktrackingRecursive(board, context, 0)) {
             return board;
         } else {
             throw new RuntimeException("Backtracking failed to solve the puzzle.");
         }
     }
 
-    // Time Complexity: O(1) — Each of the three loops runs a fixed 9 iterations
+    // Time Complexity: O(N) — Each of the three loops runs N iterations (9 on a 9x9 board)
     private boolean isValidNumber(int[][] puzzle, int number, int row, int column) {
-        // Check row: O(9) = O(1)
-        for (int i = 0; i < 9; i++) {
+        int n = puzzle.length;
+
+        // Check row: O(N)
+        for (int i = 0; i < n; i++) {
             if (puzzle[row][i] == number) {
                 return false;
             }
         }
 
-        // Check column: O(9) = O(1)
-        for (int i = 0; i < 9; i++) {
+        // Check column: O(N)
+        for (int i = 0; i < n; i++) {
             if (puzzle[i][column] == number) {
                 return false;
             }
         }
 
-        // Check 3x3 box: O(3^2) = O(9) = O(1)
-        int startRow = row - row % 3;
-        int startCol = column - column % 3;
-        for (int i = startRow; i < startRow + 3; i++) {
-            for (int j = startCol; j < startCol + 3; j++) {
+        // Check box: O(box^2) = O(N)
+        int box = boxSize;
+        int startRow = row - row % box;
+        int startCol = column - column % box;
+        for (int i = startRow; i < startRow + box; i++) {
+            for (int j = startCol; j < startCol + box; j++) {
                 if (puzzle[i][j] == number) {
                     return false;
                 }
@@ -50,19 +56,20 @@ public class Backtracking implements RMIT_Sudoku_Solver {
         return true;
     }
 
-    // Time Complexity: O(9^K) — where K is the number of empty cells
-    private boolean BacktrackingRecursive(int[][] puzzle, long startTime) {
-        if (System.currentTimeMillis() - startTime > 120000) {
-            throw new RuntimeException("Backtracking algorithm exceeded the time limit of 2 minutes");
-        }
+    // Time Complexity: O(N^K) — where K is the number of empty cells, O(9^K) on a 9x9 board
+    // depth is the number of cells filled by this search above the call
+    private boolean BacktrackingRecursive(int[][] puzzle, SolveContext context, int depth) {
+        context.checkpoint();
+        context.getStats().node(depth);
 
-        // Iterate over each cell: O(81) = O(1) for fixed 9x9 board
-        for (int row = 0; row < 9; row++) {
-            for (int column = 0; column < 9; column++) {
+        // Iterate over each cell: O(N^2), O(81) = O(1) for a 9x9 board
+        int n = puzzle.length;
+        for (int row = 0; row < n; row++) {
+            for (int column = 0; column < n; column++) {
                 if (puzzle[row][column] == 0) {
-                    // Try numbers 1 to 9: 9 * O(1) = O(1)
-                    for (int numberToTry = 1; numberToTry <= 9; numberToTry++) {
-                        if (isValidNumber(puzzle, numberToTry, row, column)) { // O(1)
+                    // Try numbers 1 to N: N * O(N)
+                    for (int numberToTry = 1; numberToTry <= n; numberToTry++) {
+                        if (isValidNumber(puzzle, numberToTry, row, column)) { // O(N)
                             puzzle[row][column] = numberToTry;
                             if (enableDetailedLogs) {
                                 System.out.printf("Step %d: Trying number %d at (%d, %d)%n",
@@ -70,10 +77,11 @@ public class Backtracking implements RMIT_Sudoku_Solver {
                                 stepCount++;
                                 printBoard(puzzle);
                             }
-                            if (BacktrackingRecursive(puzzle, startTime)) { // Recursive call
+                            if (BacktrackingRecursive(puzzle, context, depth + 1)) { // Recursive call
                                 return true;
                             } else {
                                 puzzle[row][column] = 0; // Backtracking
+                                context.getStats().backtrack();
                                 if (enableDetailedLogs) {
                                     System.out.printf("Step %d: Backtracking at (%d, %d)%n",
                                             stepCount, row, column);
@@ -90,59 +98,85 @@ public class Backtracking implements RMIT_Sudoku_Solver {
         return true;
     }
 
-    // AI Prompt: Write a Java method isValidBoard(int[][] board) that checks if a
-    // 9×9 Sudoku board is valid. Avoid using nested loops. Validate rows, columns,
-    // and 3×3 boxes using boolean arrays. Allow 0s for empty cells. Return true if
-    // valid, false otherwise.
-
-    // Time Complexity: O(1) — since board size is fixed at 9x9
-    public boolean isValidBoard(int[][] board) {
-        if (board.length != 9 || board[0].length != 9)
-            return false;
+    // Time Complexity: O(N^K) — same search as solve(), stopped at limit solutions
+    @Override
+    public int countSolutions(int[][] board, int limit, SolveContext context) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Solution limit must be at least 1.");
+        }
+        if (!isValidBoard(board)) {
+            return 0;
+        }
 
-        boolean[][] rows = new boolean[9][9];
-        boolean[][] cols = new boolean[9][9];
-        boolean[][] boxes = new boolean[9][9];
+        int n = board.length;
+        boxSize = BoardGeometry.boxSizeOf(n);
+        int[][] puzzle = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(board[i], 0, puzzle[i], 0, n);
+        }
+        return countRecursive(puzzle, limit, context, 0);
+    }
 
-        // Iterate once through 81 cells: O(81) = O(1)
-        for (int k = 0; k < 81; k++) {
-            int row = k / 9;
-            int col = k % 9;
+    private int countRecursive(int[][] puzzle, int limit, SolveContext context, int depth) {
+        context.checkpoint();
+        context.getStats().node(depth);
 
-            int num = board[row][col];
-            if (num == 0)
-                continue; // skip empty cells
+        int n = puzzle.length;
+        for (int row = 0; row < n; row++) {
+            for (int column = 0; column < n; column++) {
+                if (puzzle[row][column] == 0) {
+                    int solutions = 0;
+                    for (int numberToTry = 1; numberToTry <= n && solutions < limit; numberToTry++) {
+                        if (isValidNumber(puzzle, numberToTry, row, column)) {
+                            puzzle[row][column] = numberToTry;
+                            solutions += countRecursive(puzzle, limit - solutions, context, depth + 1);
+                            puzzle[row][column] = 0;
+                        }
+                    }
+                    return solutions;
+                }
+            }
+        }
 
-            if (num < 1 || num > 9)
-                return false; // invalid digit
+        return 1; // board is full: one solution
+    }
 
-            int idx = num - 1;
-            int boxIndex = (row / 3) * 3 + (col / 3);
+    // AI Prompt: Write a Java method isValidBoard(int[][] board) that checks if a
+    // 9×9 Sudoku board is valid. Avoid using nested loops. Validate rows, columns,
+    // and 3×3 boxes using boolean arrays. Allow 0s for empty cells. Return true if
+    // valid, false otherwise.
 
-            if (rows[row][idx] || cols[col][idx] || boxes[boxIndex][idx]) {
-                return false; // duplicate found
-            }
+    // Generalized to N x N boards with box x box subgrids (N = box^2)
 
-            rows[row][idx] = true;
-            cols[col][idx] = true;
-            boxes[boxIndex][idx] = true;
-        }
+    // Time Complexity: O(N^2)
+    // Any supported board size, see BoardGeometry.isValidBoard
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.isValidBoard(board);
+    }
 
-        return true; // all checks passed
+    @Override
+    public boolean supportsBoxSize(int boxSize) {
+        return boxSize >= BoardGeometry.MIN_BOX_SIZE && boxSize <= BoardGeometry.MAX_BOX_SIZE;
     }
 
     // Helper method to print the Sudoku board when running individual test
     public static void printBoard(int[][] board) {
+        int n = board.length;
+        int box = (int) Math.round(Math.sqrt(n));
+        int width = String.valueOf(n).length();
+        String cellFormat = "%" + width + "d ";
+        String separator = "-".repeat((width + 1) * n + 2 * (box - 1) - 1);
         System.out.println("Sudoku Board:");
-        for (int i = 0; i < 9; i++) {
-            if (i % 3 == 0 && i != 0) {
-                System.out.println("---------------------");
+        for (int i = 0; i < n; i++) {
+            if (i % box == 0 && i != 0) {
+                System.out.println(separator);
             }
-            for (int j = 0; j < 9; j++) {
-                if (j % 3 == 0 && j != 0) {
+            for (int j = 0; j < n; j++) {
+                if (j % box == 0 && j != 0) {
                     System.out.print("| ");
                 }
-                System.out.print(board[i][j] + " ");
+                System.out.printf(cellFormat, board[i][j]);
             }
             System.out.println();
         }
@@ -0,0 +1,234 @@
+package algorithms;
+
+import structures.BoardGeometry;
+
+// Bitmask candidate engine used by the Constraint Satisfaction solver.
+// Row, column and box occupancy are stored as N-bit masks (bit d-1 is set when
+// digit d is placed) and updated incrementally on assign/unassign, so the
+// domain of a cell is three ORs and MRV selection is one popcount per cell.
+// Candidates removed by propagation rules (pairs, pointing, ...) are kept in a
+// separate per-cell mask, and push()/pop() save and restore the whole state
+// into per-depth slots that are allocated once and then reused. The board size
+// is fixed per engine (9x9 by default, see BoardGeometry for larger boards).
+public class BitmaskEngine {
+    final BoardGeometry geometry;
+    final int size;
+    final int cellCount;
+    final int allDigits;
+
+    // Lookup tables of the geometry: cell index (row * N + col) -> row, column, box
+    final int[] rowOf;
+    final int[] colOf;
+    final int[] boxOf;
+
+    // The 3N units (N rows, then N columns, then N boxes) as lists of cell indexes
+    final int[][] units;
+
+    // Saved state layout: cells, pruned, row/column/box masks, empty count
+    private final int stateSize;
+
+    final int[] cells;
+    final int[] rowMask;
+    final int[] colMask;
+    final int[] boxMask;
+    final int[] pruned;
+    int emptyCount;
+
+    // Per-unit work array for propagation rules, so they stay allocation free
+    final int[] scratch;
+
+    // One saved state per search depth, at most one level per empty cell;
+    // a slot is allocated the first time the search reaches its depth
+    private final int[][] savedStates;
+    private int depth;
+
+    // Constructor - standard 9x9 board
+    public BitmaskEngine() {
+        this(3);
+    }
+
+    // Constructor - N x N board with N = boxSize^2
+    public BitmaskEngine(int boxSize) {
+        this(BoardGeometry.of(boxSize));
+    }
+
+    public BitmaskEngine(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.size;
+        this.cellCount = geometry.cellCount;
+        this.allDigits = geometry.allDigits;
+        this.rowOf = geometry.rowOf;
+        this.colOf = geometry.colOf;
+        this.boxOf = geometry.boxOf;
+        this.units = geometry.units;
+        this.stateSize = 2 * cellCount + 3 * size + 1;
+
+        cells = new int[cellCount];
+        rowMask = new int[size];
+        colMask = new int[size];
+        boxMask = new int[size];
+        pruned = new int[cellCount];
+        scratch = new int[size];
+        savedStates = new int[cellCount + 1][];
+    }
+
+    // Time Complexity: O(N^2)
+    // Load a board into the engine, return false if two givens conflict
+    public boolean load(int[][] board) {
+        for (int i = 0; i < size; i++) {
+            rowMask[i] = 0;
+            colMask[i] = 0;
+            boxMask[i] = 0;
+        }
+        emptyCount = cellCount;
+        depth = 0;
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            int digit = board[rowOf[cell]][colOf[cell]];
+            cells[cell] = 0;
+            pruned[cell] = 0;
+            if (digit != 0) {
+                if ((candidates(cell) & bitOf(digit)) == 0) {
+                    return false;
+                }
+                assign(cell, digit);
+            }
+        }
+        return true;
+    }
+
+    // Time Complexity: O(N^2)
+    // Copy the current state of another engine (saved states are not copied)
+    public void copyFrom(BitmaskEngine other) {
+        if (other.geometry != geometry) {
+            throw new IllegalArgumentException("Cannot copy an engine of a different board size.");
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cellCount);
+        System.arraycopy(other.pruned, 0, pruned, 0, cellCount);
+        System.arraycopy(other.rowMask, 0, rowMask, 0, size);
+        System.arraycopy(other.colMask, 0, colMask, 0, size);
+        System.arraycopy(other.boxMask, 0, boxMask, 0, size);
+        emptyCount = other.emptyCount;
+        depth = 0;
+    }
+
+    // Time Complexity: O(N^2)
+    // Copy the current assignment back into a 2D board
+    public void writeTo(int[][] board) {
+        for (int cell = 0; cell < cellCount; cell++) {
+            board[rowOf[cell]][colOf[cell]] = cells[cell];
+        }
+    }
+
+    // Time Complexity: O(1)
+    // Mask of the digits that can still be placed in an empty cell
+    public int candidates(int cell) {
+        return ~(rowMask[rowOf[cell]] | colMask[colOf[cell]] | boxMask[boxOf[cell]] | pruned[cell])
+                & allDigits;
+    }
+
+    // Time Complexity: O(1)
+    // Remove digits from the candidates of an empty cell, return true if any
+    // candidate was actually removed
+    public boolean eliminate(int cell, int mask) {
+        int removed = candidates(cell) & mask;
+        if (removed == 0) {
+            return false;
+        }
+        pruned[cell] |= removed;
+        return true;
+    }
+
+    // Time Complexity: O(N^2) — one array copy per state array
+    // Save the current state so that a later pop() can restore it
+    public void push() {
+        int[] state = savedStates[depth];
+        if (state == null) {
+            state = new int[stateSize];
+            savedStates[depth] = state;
+        }
+        depth++;
+        System.arraycopy(cells, 0, state, 0, cellCount);
+        System.arraycopy(pruned, 0, state, cellCount, cellCount);
+        System.arraycopy(rowMask, 0, state, 2 * cellCount, size);
+        System.arraycopy(colMask, 0, state, 2 * cellCount + size, size);
+        System.arraycopy(boxMask, 0, state, 2 * cellCount + 2 * size, size);
+        state[stateSize - 1] = emptyCount;
+    }
+
+    // Time Complexity: O(N^2) — one array copy per state array
+    // Restore the state saved by the matching push()
+    public void pop() {
+        int[] state = savedStates[--depth];
+        System.arraycopy(state, 0, cells, 0, cellCount);
+        System.arraycopy(state, cellCount, pruned, 0, cellCount);
+        System.arraycopy(state, 2 * cellCount, rowMask, 0, size);
+        System.arraycopy(state, 2 * cellCount + size, colMask, 0, size);
+        System.arraycopy(state, 2 * cellCount + 2 * size, boxMask, 0, size);
+        emptyCount = state[stateSize - 1];
+    }
+
+    // Time Complexity: O(1)
+    public void assign(int cell, int digit) {
+        int bit = bitOf(digit);
+        cells[cell] = digit;
+        rowMask[rowOf[cell]] |= bit;
+        colMask[colOf[cell]] |= bit;
+        boxMask[boxOf[cell]] |= bit;
+        emptyCount--;
+    }
+
+    // Time Complexity: O(1)
+    public void unassign(int cell) {
+        int bit = ~bitOf(cells[cell]);
+        cells[cell] = 0;
+        rowMask[rowOf[cell]] &= bit;
+        colMask[colOf[cell]] &= bit;
+        boxMask[boxOf[cell]] &= bit;
+        emptyCount++;
+    }
+
+    // Time Complexity: O(N^2)
+    // Return the empty cell with the fewest candidates (MRV), or -1 when the
+    // board is full. Stops early on a cell with 0 or 1 candidates.
+    public int mostConstrainedCell() {
+        int result = -1;
+        int minOptions = size + 1;
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (cells[cell] == 0) {
+                int options = Integer.bitCount(candidates(cell));
+                if (options < minOptions) {
+                    minOptions = options;
+                    result = cell;
+                    if (options <= 1) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public int getEmptyCount() {
+        return emptyCount;
+    }
+
+    public int getCell(int cell) {
+        return cells[cell];
+    }
+
+    public static int bitOf(int digit) {
+        return 1 << (digit - 1);
+    }
+
+    // Lowest digit contained in a non-empty mask
+    public static int lowestDigit(int mask) {
+        return Integer.numberOfTrailingZeros(mask) + 1;
+    }
+}
@@ -0,0 +1,497 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import structures.ArrayList;
+import structures.BoardGeometry;
+import structures.List;
+
+// Solution cache in front of any solver, shared by all the puzzles that are
+// equal up to a symmetry of the board: relabelling the digits, transposing,
+// swapping bands or stacks, and swapping rows within a band or columns within
+// a stack. Each puzzle is reduced to a canonical form, the cache is looked up
+// with it, and a cached solution is mapped back through the inverse transform.
+//
+// Canonical form: the rows are ordered by invariants that no symmetry other
+// than the row permutations changes (givens per row, then the sorted givens of
+// its box segments), bands by the invariants of their rows, and the columns
+// and stacks likewise; the orientation with the larger band invariants is
+// taken, both when they are equal. Rows, columns and orientations with equal
+// invariants are tried in every order, up to ORDER_LIMIT orders per axis, and
+// the digits are relabelled 1, 2, ... in order of first appearance; the
+// lexicographically smallest board wins. Past the limit two isomorphic
+// puzzles may get different forms, which costs a miss but never a wrong
+// answer, since every transform is a symmetry.
+//
+// The cache is an access-ordered LinkedHashMap (least recently used first)
+// bounded by an estimate of its memory: every entry weighs its canonical key
+// and its solution (one byte per cell each) plus the map entry, key object and
+// array headers, about 260 bytes for a 9x9 puzzle and 1.3 KB for a 25x25 one.
+// Like the solvers, an instance is not thread-safe.
+public class CachingSolver implements RMIT_Sudoku_Solver {
+    public static final long DEFAULT_MAX_BYTES = 4 << 20;
+    private static final int ORDER_LIMIT = 32;
+    // LinkedHashMap entry, its table slot, the Key object and two array headers
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final RMIT_Sudoku_Solver solver;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, byte[]> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long canonicalNanos = 0;
+    private long solveNanos = 0;
+
+    // Transform of the last canonicalized puzzle
+    private boolean transposed;
+    private int[] rowOrder;
+    private int[] colOrder;
+    private final int[] labelOf = new int[BoardGeometry.MAX_BOX_SIZE * BoardGeometry.MAX_BOX_SIZE + 1];
+    private final int[] digitOf = new int[labelOf.length];
+
+    public CachingSolver(RMIT_Sudoku_Solver solver) {
+        this(solver, DEFAULT_MAX_BYTES);
+    }
+
+    public CachingSolver(RMIT_Sudoku_Solver solver, long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1 byte.");
+        }
+        this.solver = solver;
+        this.maxBytes = maxBytes;
+    }
+
+    // Estimated memory of one cached NxN puzzle, e.g. to size the cache
+    public static long entryBytes(int size) {
+        return 2L * size * size + ENTRY_OVERHEAD_BYTES;
+    }
+
+    // Time Complexity: O(L * N^2) for L <= 2 * ORDER_LIMIT^2 candidate orders on a hit,
+    // plus the solve of the wrapped solver on a miss
+    @Override
+    public int[][] solve(int[][] puzzle, SolveContext context) {
+        if (!isValidBoard(puzzle)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+        int boxSize = BoardGeometry.boxSizeOf(puzzle);
+        if (boxSize < 0) {
+            return solver.solve(puzzle, context); // let the solver report the shape
+        }
+
+        long startTime = System.nanoTime();
+        Key key = canonicalize(puzzle, boxSize);
+        canonicalNanos += System.nanoTime() - startTime;
+
+        byte[] solution = cache.get(key);
+        if (solution != null) {
+            hits++;
+            writeBack(solution, puzzle);
+            return puzzle;
+        }
+        misses++;
+
+        startTime = System.nanoTime();
+        int[][] solved;
+        try {
+            solved = solver.solve(puzzle, context);
+        } finally {
+            solveNanos += System.nanoTime() - startTime;
+        }
+        solution = canonicalSolution(solved, key);
+        if (solution != null) {
+            put(key, solution);
+        }
+        return solved;
+    }
+
+    // Time Complexity: O(L * N^2)
+    // Canonical form of the puzzle as the cell labels; sets the transform
+    // (orientation, row and column order, digit labels) as a side effect
+    private Key canonicalize(int[][] puzzle, int boxSize) {
+        int size = puzzle.length;
+        int[][] transpose = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                transpose[col][row] = puzzle[row][col];
+            }
+        }
+
+        long[] rowKeys = lineKeys(puzzle, boxSize);
+        long[] colKeys = lineKeys(transpose, boxSize);
+        long[] bandKeys = bandKeys(rowKeys, boxSize);
+        long[] stackKeys = bandKeys(colKeys, boxSize);
+        int orientation = compareSorted(bandKeys, stackKeys);
+
+        int[] best = null;
+        int[] candidate = new int[size * size];
+        int[] labels = new int[size + 1];
+        for (int t = 0; t < 2; t++) {
+            if ((t == 0 && orientation < 0) || (t == 1 && orientation > 0)) {
+                continue;
+            }
+            int[][] grid = t == 0 ? puzzle : transpose;
+            List<int[]> rows = orders(t == 0 ? rowKeys : colKeys, t == 0 ? bandKeys : stackKeys, boxSize);
+            List<int[]> cols = orders(t == 0 ? colKeys : rowKeys, t == 0 ? stackKeys : bandKeys, boxSize);
+            for (int r = 0; r < rows.size(); r++) {
+                for (int c = 0; c < cols.size(); c++) {
+                    if (best == null) {
+                        best = new int[size * size];
+                        relabel(grid, rows.get(r), cols.get(c), labels, best, null);
+                    } else if (!relabel(grid, rows.get(r), cols.get(c), labels, candidate, best)) {
+                        continue;
+                    } else {
+                        int[] swap = best;
+                        best = candidate;
+                        candidate = swap;
+                    }
+                    transposed = t == 1;
+                    rowOrder = rows.get(r);
+                    colOrder = cols.get(c);
+                }
+            }
+        }
+
+        // Labels of the chosen transform; digits that are not given get the
+        // remaining labels in increasing order, any order would do
+        relabel(transposed ? transpose : puzzle, rowOrder, colOrder, labels, candidate, null);
+        int next = 1;
+        for (int digit = 1; digit <= size; digit++) {
+            if (labels[digit] != 0) {
+                next++;
+            }
+        }
+        for (int digit = 1; digit <= size; digit++) {
+            if (labels[digit] == 0) {
+                labels[digit] = next++;
+            }
+            labelOf[digit] = labels[digit];
+            digitOf[labels[digit]] = digit;
+        }
+
+        byte[] key = new byte[best.length];
+        for (int i = 0; i < best.length; i++) {
+            key[i] = (byte) best[i];
+        }
+        return new Key(key);
+    }
+
+    // Time Complexity: O(N^2)
+    // Write the grid in the given row and column order, digits relabelled by
+    // first appearance. With a bound, stop as soon as the result cannot be
+    // smaller than the bound and return whether it is strictly smaller.
+    private static boolean relabel(int[][] grid, int[] rows, int[] cols, int[] labels, int[] out, int[] bound) {
+        Arrays.fill(labels, 0);
+        int next = 1;
+        boolean smaller = bound == null;
+        int size = grid.length;
+        for (int r = 0, i = 0; r < size; r++) {
+            int[] row = grid[rows[r]];
+            for (int c = 0; c < size; c++, i++) {
+                int value = row[cols[c]];
+                if (value != 0) {
+                    if (labels[value] == 0) {
+                        labels[value] = next++;
+                    }
+                    value = labels[value];
+                }
+                if (!smaller) {
+                    if (value > bound[i]) {
+                        return false;
+                    }
+                    smaller = value < bound[i];
+                }
+                out[i] = value;
+            }
+        }
+        return smaller;
+    }
+
+    // Time Complexity: O(N^2)
+    // Per line: givens in the line, then the givens of its box segments,
+    // largest first, 5 bits each
+    private static long[] lineKeys(int[][] grid, int boxSize) {
+        int size = grid.length;
+        long[] keys = new long[size];
+        int[] segments = new int[boxSize];
+        for (int line = 0; line < size; line++) {
+            Arrays.fill(segments, 0);
+            int total = 0;
+            for (int i = 0; i < size; i++) {
+                if (grid[line][i] != 0) {
+                    segments[i / boxSize]++;
+                    total++;
+                }
+            }
+            Arrays.sort(segments);
+            long key = total;
+            for (int s = boxSize - 1; s >= 0; s--) {
+                key = (key << 5) | segments[s];
+            }
+            keys[line] = key;
+        }
+        return keys;
+    }
+
+    // Per band: the givens in the band, then the sum of the squared line keys,
+    // which no reordering of the lines changes
+    private static long[] bandKeys(long[] lineKeys, int boxSize) {
+        long[] keys = new long[boxSize];
+        for (int band = 0; band < boxSize; band++) {
+            long total = 0;
+            long squares = 0;
+            for (int line = band * boxSize; line < (band + 1) * boxSize; line++) {
+                total += lineKeys[line] >>> (5 * boxSize);
+                squares += lineKeys[line] * lineKeys[line];
+            }
+            keys[band] = (total << 48) | (squares & ((1L << 48) - 1));
+        }
+        return keys;
+    }
+
+    // Compare two key sets sorted from largest to smallest
+    private static int compareSorted(long[] first, long[] second) {
+        long[] a = first.clone();
+        long[] b = second.clone();
+        Arrays.sort(a);
+        Arrays.sort(b);
+        for (int i = a.length - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return Long.compare(a[i], b[i]);
+            }
+        }
+        return 0;
+    }
+
+    // Line orders that sort the bands, and the lines within each band, by
+    // decreasing key; every order of equal keys is listed, up to ORDER_LIMIT
+    private static List<int[]> orders(long[] lineKeys, long[] bandKeys, int boxSize) {
+        int[] bands = new int[boxSize];
+        for (int band = 0; band < boxSize; band++) {
+            bands[band] = band;
+        }
+        List<int[]> bandOrders = new ArrayList<>();
+        tiedPermutations(sortByKey(bands, bandKeys), bandKeys, 0, new int[boxSize], new boolean[boxSize],
+                bandOrders);
+
+        List<List<int[]>> lineOrders = new ArrayList<>(boxSize);
+        for (int band = 0; band < boxSize; band++) {
+            int[] lines = new int[boxSize];
+            for (int i = 0; i < boxSize; i++) {
+                lines[i] = band * boxSize + i;
+            }
+            List<int[]> orders = new ArrayList<>();
+            tiedPermutations(sortByKey(lines, lineKeys), lineKeys, 0, new int[boxSize], new boolean[boxSize],
+                    orders);
+            lineOrders.add(orders);
+        }
+
+        List<int[]> result = new ArrayList<>();
+        for (int i = 0; i < bandOrders.size() && result.size() < ORDER_LIMIT; i++) {
+            combine(bandOrders.get(i), lineOrders, 0, new int[boxSize * boxSize], result);
+        }
+        return result;
+    }
+
+    // Every line order for a band order: the line orders of each band in turn
+    private static void combine(int[] bandOrder, List<List<int[]>> lineOrders, int position, int[] current,
+            List<int[]> result) {
+        if (result.size() >= ORDER_LIMIT) {
+            return;
+        }
+        int boxSize = bandOrder.length;
+        if (position == boxSize) {
+            result.add(current.clone());
+            return;
+        }
+        List<int[]> orders = lineOrders.get(bandOrder[position]);
+        for (int i = 0; i < orders.size(); i++) {
+            System.arraycopy(orders.get(i), 0, current, position * boxSize, boxSize);
+            combine(bandOrder, lineOrders, position + 1, current, result);
+        }
+    }
+
+    // Every permutation of the sorted items that keeps the keys in order
+    private static void tiedPermutations(int[] sorted, long[] keys, int position, int[] current, boolean[] used,
+            List<int[]> result) {
+        if (result.size() >= ORDER_LIMIT) {
+            return;
+        }
+        if (position == sorted.length) {
+            result.add(current.clone());
+            return;
+        }
+        long key = keys[sorted[position]];
+        for (int i = 0; i < sorted.length; i++) {
+            if (!used[i] && keys[sorted[i]] == key) {
+                used[i] = true;
+                current[position] = sorted[i];
+                tiedPermutations(sorted, keys, position + 1, current, used, result);
+                used[i] = false;
+            }
+        }
+    }
+
+    // Insertion sort of a few items by decreasing key
+    private static int[] sortByKey(int[] items, long[] keys) {
+        for (int i = 1; i < items.length; i++) {
+            int item = items[i];
+            int j = i - 1;
+            while (j >= 0 && keys[items[j]] < keys[item]) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = item;
+        }
+        return items;
+    }
+
+    // Time Complexity: O(N^2)
+    // The solution in canonical labels, or null if it is not a complete
+    // solution that keeps the canonical givens (nothing is cached then)
+    private byte[] canonicalSolution(int[][] solved, Key key) {
+        if (solved == null || solved.length != rowOrder.length || !solver.isValidBoard(solved)) {
+            return null;
+        }
+        int size = solved.length;
+        byte[] solution = new byte[size * size];
+        for (int r = 0, i = 0; r < size; r++) {
+            for (int c = 0; c < size; c++, i++) {
+                int value = transposed ? solved[colOrder[c]][rowOrder[r]] : solved[rowOrder[r]][colOrder[c]];
+                if (value < 1 || value > size) {
+                    return null;
+                }
+                int label = labelOf[value];
+                if (key.cells[i] != 0 && key.cells[i] != label) {
+                    return null;
+                }
+                solution[i] = (byte) label;
+            }
+        }
+        return solution;
+    }
+
+    // Time Complexity: O(N^2)
+    // Map a canonical solution back through the inverse transform
+    private void writeBack(byte[] solution, int[][] puzzle) {
+        int size = puzzle.length;
+        for (int r = 0, i = 0; r < size; r++) {
+            for (int c = 0; c < size; c++, i++) {
+                int digit = digitOf[solution[i]];
+                if (transposed) {
+                    puzzle[colOrder[c]][rowOrder[r]] = digit;
+                } else {
+                    puzzle[rowOrder[r]][colOrder[c]] = digit;
+                }
+            }
+        }
+    }
+
+    // Insert and evict least recently used entries until the estimated memory fits
+    private void put(Key key, byte[] solution) {
+        long weight = weightOf(solution);
+        if (weight > maxBytes) {
+            return;
+        }
+        cache.put(key, solution);
+        cachedBytes += weight;
+        Iterator<Map.Entry<Key, byte[]>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= weightOf(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    // The key has as many cells as the solution
+    private static long weightOf(byte[] solution) {
+        return 2L * solution.length + ENTRY_OVERHEAD_BYTES;
+    }
+
+    public void clear() {
+        cache.clear();
+        cachedBytes = 0;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getEntryCount() {
+        return cache.size();
+    }
+
+    // Estimated memory of the cached entries
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    // Total time spent computing canonical forms
+    public long getCanonicalNanos() {
+        return canonicalNanos;
+    }
+
+    // Total time the wrapped solver spent on misses
+    public long getSolveNanos() {
+        return solveNanos;
+    }
+
+    public void printStatistics() {
+        long lookups = hits + misses;
+        System.out.printf("CachingSolver: %d lookups, %d hits (%.1f%%), %d misses, %d evictions, %d entries, "
+                + "%d bytes, Avg Canonical Form: %.4f ms%n", lookups, hits,
+                lookups > 0 ? 100.0 * hits / lookups : 0, misses, evictions, cache.size(), cachedBytes,
+                lookups > 0 ? canonicalNanos / 1_000_000.0 / lookups : 0);
+    }
+
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return solver.isValidBoard(board);
+    }
+
+    @Override
+    public boolean supportsBoxSize(int boxSize) {
+        return solver.supportsBoxSize(boxSize);
+    }
+
+    // Counting is not cached, every call reaches the wrapped solver
+    @Override
+    public int countSolutions(int[][] puzzle, int limit, SolveContext context) {
+        return solver.countSolutions(puzzle, limit, context);
+    }
+
+    // Canonical form with one byte per cell (labels go up to 25) and its hash
+    // computed once
+    private static final class Key {
+        final byte[] cells;
+        private final int hash;
+
+        Key(byte[] cells) {
+            this.cells = cells;
+            this.hash = Arrays.hashCode(cells);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && hash == key.hash && Arrays.equals(cells, key.cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package algorithms;
 
-import structures.ArrayList;
-import structures.List;
+import structures.BoardGeometry;
 
 public class ConstraintSatisfaction implements RMIT_Sudoku_Solver {
-    private static final int GRID_SIZE = 9;
+    // Search state is reused between puzzles, so an instance is not thread-safe;
+    // the engine is replaced when a puzzle of another size comes in
+    private BitmaskEngine engine = new BitmaskEngine();
+    private final ConstraintPropagator propagator;
+    private long branchCount = 0;
+
+    public ConstraintSatisfaction() {
+        this(ConstraintPropagator.standard());
+    }
+
+    // Pass new ConstraintPropagator() (no rules) for plain MRV backtracking
+    public ConstraintSatisfaction(ConstraintPropagator propagator) {
+        this.propagator = propagator;
+    }
 
     // Funtion called sudoku solver return solved board or
-    // return null whenever it exceed 2 minutes or an error is occured
+    // throw whenever it exceeds the context budget or an error is occured
     @Override
-    public int[][] solve(int[][] board) {
+    public int[][] solve(int[][] board, SolveContext context) {
         if (!isValidBoard(board)) {
             throw new IllegalArgumentException("Invalid puzzle board input.");
         }
 
-        long startTime = System.currentTimeMillis();
+        branchCount = 0;
 
-        if (constraintSatisfaction(board, startTime)) {
+        if (solveWith(engineFor(board), propagator, board, context)) {
             return board;
         } else {
             throw new RuntimeException("Constraint Satisfaction failed to solve the puzzle.");
@@ -26,156 +38,174 @@ public class ConstraintSatisfaction implements RMIT_Sudoku_Solver {
     // Average Time Complexity: O(k^n)
     // n is the number of unassigned cells
     // k is the number of possible values for each cell
-    // Worst Case: O(9^81)
+    // Worst Case: O(N^(N^2)), O(9^81) for a 9x9 board
     // Space Complexity: O(d)
     //  d is the number of empty cell
-    public static boolean constraintSatisfaction(int[][] board, long startTime) {
-        if (System.currentTimeMillis() - startTime > 120000) {
-            throw new RuntimeException("Constraint Satisfaction exceeded time limit of 2 minutes");
+    public static boolean constraintSatisfaction(int[][] board, SolveContext context) {
+        return new ConstraintSatisfaction().solveWith(new BitmaskEngine(BoardGeometry.boxSizeOf(board)),
+                ConstraintPropagator.standard(), board, context);
+    }
+
+    private boolean solveWith(BitmaskEngine engine, ConstraintPropagator propagator, int[][] board,
+            SolveContext context) {
+        if (!engine.load(board)) {
+            return false;
+        }
+        int checkInterval = context.scaleCheckInterval(board.length);
+        try {
+            if (!search(engine, propagator, context, 0)) {
+                return false;
+            }
+        } finally {
+            context.restoreCheckInterval(checkInterval);
+        }
+        engine.writeTo(board);
+        return true;
+    }
+
+    // MRV backtracking over the bitmask engine: propagation runs to a fixpoint at
+    // every node, then the most constrained cell and its domain are read from the
+    // candidate masks. Each guess is undone with a single pop() of the saved state.
+    private boolean search(BitmaskEngine engine, ConstraintPropagator propagator, SolveContext context,
+            int depth) {
+        context.checkpoint();
+        SolveStats stats = context.getStats();
+        stats.node(depth);
+
+        if (!propagator.propagate(engine, stats)) {
+            return false;
         }
 
         // Find the most constrained cell (cell with the fewest possible values)
-        int[] cell = findMostConstrainedCell(board);
-        if (cell == null) {
+        int cell = engine.mostConstrainedCell();
+        if (cell < 0) {
             return true;
         }
 
-        int row = cell[0];
-        int col = cell[1];
-        List<Integer> possibleValues = getPossibleValues(board, row, col);
-
-        // Try each possible value
-        for (int i = 0; i < possibleValues.size(); i++) {
-            int value = possibleValues.get(i);
-            board[row][col] = value;
-            if (constraintSatisfaction(board, startTime)) {
+        // Try each possible value, lowest digit first
+        int possibleValues = engine.candidates(cell);
+        while (possibleValues != 0) {
+            int value = BitmaskEngine.lowestDigit(possibleValues);
+            possibleValues &= possibleValues - 1;
+            branchCount++;
+            engine.push();
+            engine.assign(cell, value);
+            if (search(engine, propagator, context, depth + 1)) {
                 return true;
             }
-            board[row][col] = 0;
+            engine.pop();
+            stats.backtrack();
         }
 
         return false;
     }
 
-    // Average Time Complexity: O(1)
-    // Iterate through the sudoku board to find most
-    // constrained cells with fewest possible values
-    private static int[] findMostConstrainedCell(int[][] board) {
-        int[] result = null;
-        int minOptions = GRID_SIZE + 1;
-
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < 9; col++) {
-                if (board[row][col] == 0) {
-                    List<Integer> possibleValues = getPossibleValues(board, row, col);
-                    if (possibleValues.size() < minOptions) {
-                        minOptions = possibleValues.size();
-                        result = new int[] { row, col };
-                    }
-                }
-            }
+    // Same search as solve(), but every branch is explored until limit solutions
+    // have been found, so proving uniqueness costs barely more than one solve
+    @Override
+    public int countSolutions(int[][] puzzle, int limit, SolveContext context) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Solution limit must be at least 1.");
+        }
+        if (!isValidBoard(puzzle)) {
+            return 0;
+        }
+        BitmaskEngine engine = engineFor(puzzle);
+        if (!engine.load(puzzle)) {
+            return 0;
         }
 
-        return result;
+        branchCount = 0;
+        int checkInterval = context.scaleCheckInterval(puzzle.length);
+        try {
+            return count(engine, propagator, limit, context, 0);
+        } finally {
+            context.restoreCheckInterval(checkInterval);
+        }
     }
 
-    // Average Time Complexity: O(1)
-    // Return a list of possible values by checking
-    // row, column and 3x3 sub-grid constrain
-    private static List<Integer> getPossibleValues(int[][] board, int row, int col) {
-        boolean[] used = new boolean[GRID_SIZE + 1];
+    private int count(BitmaskEngine engine, ConstraintPropagator propagator, int limit, SolveContext context,
+            int depth) {
+        context.checkpoint();
+        SolveStats stats = context.getStats();
+        stats.node(depth);
 
-        // Mark numbers used in the row
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (board[row][i] != 0) {
-                used[board[row][i]] = true;
-            }
+        if (!propagator.propagate(engine, stats)) {
+            return 0;
         }
 
-        // Mark numbers used in the column
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (board[i][col] != 0) {
-                used[board[i][col]] = true;
-            }
+        int cell = engine.mostConstrainedCell();
+        if (cell < 0) {
+            return 1;
         }
 
-        // Mark numbers used in the 3x3 subgrid
-        int localBoxRow = row - row % 3;
-        int localBoxCol = col - col % 3;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (board[localBoxRow + i][localBoxCol + j] != 0) {
-                    used[board[localBoxRow + i][localBoxCol + j]] = true;
-                }
-            }
+        int solutions = 0;
+        int possibleValues = engine.candidates(cell);
+        while (possibleValues != 0 && solutions < limit) {
+            int value = BitmaskEngine.lowestDigit(possibleValues);
+            possibleValues &= possibleValues - 1;
+            branchCount++;
+            engine.push();
+            engine.assign(cell, value);
+            solutions += count(engine, propagator, limit - solutions, context, depth + 1);
+            engine.pop();
         }
 
-        // Collect all unused numbers
-        List<Integer> possibleValues = new ArrayList<>();
-        for (int num = 1; num <= GRID_SIZE; num++) {
-            if (!used[num]) {
-                possibleValues.add(num);
-            }
+        return solutions;
+    }
+
+    // The reusable engine, rebuilt only when the board size changes
+    private BitmaskEngine engineFor(int[][] board) {
+        int boxSize = BoardGeometry.boxSizeOf(board);
+        if (engine.getGeometry().boxSize != boxSize) {
+            engine = new BitmaskEngine(boxSize);
         }
+        return engine;
+    }
+
+    @Override
+    public boolean supportsBoxSize(int boxSize) {
+        return boxSize >= BoardGeometry.MIN_BOX_SIZE && boxSize <= BoardGeometry.MAX_BOX_SIZE;
+    }
 
-        return possibleValues;
+    public ConstraintPropagator getPropagator() {
+        return propagator;
     }
 
-    // AI prompt: write a java function named isValidBoard that check
-    // if a 2D array sudoku board input is corrected without duplicated values
-    // and satisfied sudoku rules
+    // Number of guesses made while solving the last puzzle, 0 when propagation
+    // alone solved it
+    public long getBranchCount() {
+        return branchCount;
+    }
+
+    // Time Complexity: O(N^2)
+    // Any supported board size, see BoardGeometry.isValidBoard
     @Override
     public boolean isValidBoard(int[][] board) {
-        int n = 9;
-        // Check rows and columns
-        for (int i = 0; i < n; i++) {
-            boolean[] rowUsed = new boolean[n + 1];
-            boolean[] colUsed = new boolean[n + 1];
-            for (int j = 0; j < n; j++) {
-                int rowVal = board[i][j];
-                int colVal = board[j][i];
-                if (rowVal != 0) {
-                    if (rowUsed[rowVal])
-                        return false;
-                    rowUsed[rowVal] = true;
-                }
-                if (colVal != 0) {
-                    if (colUsed[colVal])
-                        return false;
-                    colUsed[colVal] = true;
-                }
-            }
-        }
-        // Check 3x3 subgrids
-        for (int boxRow = 0; boxRow < 3; boxRow++) {
-            for (int boxCol = 0; boxCol < 3; boxCol++) {
-                boolean[] boxUsed = new boolean[n + 1];
-                for (int i = 0; i < 3; i++) {
-                    for (int j = 0; j < 3; j++) {
-                        int val = board[boxRow * 3 + i][boxCol * 3 + j];
-                        if (val != 0) {
-                            if (boxUsed[val])
-                                return false;
-                            boxUsed[val] = true;
-                        }
-                    }
-                }
-            }
-        }
-        return true;
+        return BoardGeometry.isValidBoard(board);
     }
 
     public void printBoard(int[][] board) {
+        int n = board.length;
+        int box = (int) Math.round(Math.sqrt(n));
+        String cellFormat = "%" + String.valueOf(n).length() + "d ";
+        StringBuilder separator = new StringBuilder();
+        for (int j = 0; j < n; j++) {
+            if (j % box == 0 && j != 0) {
+                separator.append("+ ");
+            }
+            separator.append("-".repeat(String.valueOf(n).length())).append(' ');
+        }
         System.out.println("Sudoku Board:");
-        for (int i = 0; i < 9; i++) {
-            if (i % 3 == 0 && i != 0) {
-                System.out.println("- - - + - - - + - - -");
+        for (int i = 0; i < n; i++) {
+            if (i % box == 0 && i != 0) {
+                System.out.println(separator.toString().trim());
             }
-            for (int j = 0; j < 9; j++) {
-                if (j % 3 == 0 && j != 0) {
+            for (int j = 0; j < n; j++) {
+                if (j % box == 0 && j != 0) {
                     System.out.print("| ");
                 }
-                System.out.print(board[i][j] + " ");
+                System.out.printf(cellFormat, board[i][j]);
             }
             System.out.println();
         }
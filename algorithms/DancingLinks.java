@@ -0,0 +1,342 @@
+package algorithms;
+
+import structures.BoardGeometry;
+
+// Dancing Links (Knuth's Algorithm X) exact cover solver.
+// A 9x9 Sudoku is an exact cover problem with 324 constraint columns
+// (cell filled, row has digit, column has digit, box has digit) and 729 candidate
+// rows (one per cell/digit pair), each row covering exactly 4 columns; an N x N
+// board has 4N^2 columns and N^3 rows.
+// The whole matrix lives in preallocated int arrays that are built once per
+// instance: every cover() is undone by the matching uncover(), so the links are
+// back in their initial state after each solve and the same instance can be
+// reused for a stream of puzzles without allocating. The arrays are only
+// rebuilt when a puzzle of a different size comes in.
+// An instance is not thread-safe; use one DancingLinks per thread.
+public class DancingLinks implements RMIT_Sudoku_Solver {
+    private static final int NODES_PER_ROW = 4;
+
+    // Node 0 is the root, nodes 1..4N^2 are column headers, then 4 nodes per row
+    private static final int ROOT = 0;
+
+    private int boxSize;
+    private int gridSize;
+    private int cellCount;
+    private int columnCount;
+    private int rowCount;
+    private int firstRowNode;
+
+    private int[] left;
+    private int[] right;
+    private int[] up;
+    private int[] down;
+    private int[] column;
+    private int[] size;
+    private boolean[] covered;
+
+    // Selected rows (first node of each row), givens first then search choices
+    private int[] selected;
+    private int selectedCount;
+
+    // Set while the links are modified, so an aborted solve (timeout) triggers
+    // a full reset() before the next puzzle
+    private boolean dirty = false;
+
+    // Constructor - matrix for the standard 9x9 board
+    public DancingLinks() {
+        this(3);
+    }
+
+    // Constructor - matrix for N x N boards with N = boxSize^2
+    public DancingLinks(int boxSize) {
+        allocate(boxSize);
+    }
+
+    // Allocate and link the matrix for a board size
+    private void allocate(int boxSize) {
+        BoardGeometry.of(boxSize); // validates the box size
+        this.boxSize = boxSize;
+        this.gridSize = boxSize * boxSize;
+        this.cellCount = gridSize * gridSize;
+        this.columnCount = 4 * cellCount;
+        this.rowCount = cellCount * gridSize;
+        this.firstRowNode = columnCount + 1;
+        int nodeCount = firstRowNode + NODES_PER_ROW * rowCount;
+
+        left = new int[nodeCount];
+        right = new int[nodeCount];
+        up = new int[nodeCount];
+        down = new int[nodeCount];
+        column = new int[nodeCount];
+        size = new int[columnCount + 1];
+        covered = new boolean[columnCount + 1];
+        selected = new int[cellCount];
+        reset();
+    }
+
+    // Make sure the matrix matches the puzzle's size and is in its initial state
+    private void prepare(int[][] board) {
+        if (board.length != gridSize) {
+            allocate(BoardGeometry.boxSizeOf(board));
+        } else if (dirty) {
+            reset();
+        }
+    }
+
+    // Time Complexity: O(4N^2 + N^3 * 4), O(324 + 729 * 4) = O(1) for 9x9
+    // Relink the full exact cover matrix in place, no arrays are reallocated
+    public void reset() {
+        for (int c = 0; c <= columnCount; c++) {
+            left[c] = c == 0 ? columnCount : c - 1;
+            right[c] = c == columnCount ? ROOT : c + 1;
+            up[c] = c;
+            down[c] = c;
+            column[c] = c;
+            size[c] = 0;
+            covered[c] = false;
+        }
+
+        int[] headers = new int[NODES_PER_ROW];
+        for (int r = 0; r < rowCount; r++) {
+            int cell = r / gridSize;
+            int digit = r % gridSize;
+            int row = cell / gridSize;
+            int col = cell % gridSize;
+            int box = (row / boxSize) * boxSize + col / boxSize;
+            int first = firstRowNode + r * NODES_PER_ROW;
+
+            // Column headers are 1-based
+            headers[0] = 1 + cell;
+            headers[1] = 1 + cellCount + row * gridSize + digit;
+            headers[2] = 1 + 2 * cellCount + col * gridSize + digit;
+            headers[3] = 1 + 3 * cellCount + box * gridSize + digit;
+            for (int k = 0; k < NODES_PER_ROW; k++) {
+                int node = first + k;
+                int header = headers[k];
+                column[node] = header;
+                up[node] = up[header];
+                down[node] = header;
+                down[up[header]] = node;
+                up[header] = node;
+                size[header]++;
+                left[node] = k == 0 ? first + NODES_PER_ROW - 1 : node - 1;
+                right[node] = k == NODES_PER_ROW - 1 ? first : node + 1;
+            }
+        }
+
+        selectedCount = 0;
+        dirty = false;
+    }
+
+    @Override
+    public int[][] solve(int[][] board, SolveContext context) {
+        if (!isValidBoard(board)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+        prepare(board);
+
+        boolean consistent = selectGivens(board);
+        int givenCount = selectedCount;
+
+        boolean solved = consistent && search(context, 0);
+        if (solved) {
+            for (int i = 0; i < selectedCount; i++) {
+                int r = (selected[i] - firstRowNode) / NODES_PER_ROW;
+                board[r / gridSize / gridSize][(r / gridSize) % gridSize] = r % gridSize + 1;
+            }
+        }
+
+        unselectGivens(givenCount);
+
+        if (solved) {
+            return board;
+        } else {
+            throw new RuntimeException("Dancing Links failed to solve the puzzle.");
+        }
+    }
+
+    // Same search as solve(), but every branch is explored until limit solutions
+    // have been found; the matrix is fully restored afterwards
+    @Override
+    public int countSolutions(int[][] puzzle, int limit, SolveContext context) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Solution limit must be at least 1.");
+        }
+        if (!isValidBoard(puzzle)) {
+            return 0;
+        }
+        prepare(puzzle);
+
+        int solutions = selectGivens(puzzle) ? count(limit, context, 0) : 0;
+        unselectGivens(selectedCount);
+        return solutions;
+    }
+
+    // Select the rows of the givens, exactly as if the search had chosen them.
+    // Return false if two givens conflict.
+    private boolean selectGivens(int[][] board) {
+        dirty = true;
+        selectedCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int digit = board[cell / gridSize][cell % gridSize];
+            if (digit != 0) {
+                int first = firstRowNode + (cell * gridSize + digit - 1) * NODES_PER_ROW;
+                if (!selectGiven(first)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Undo the givens in reverse order, restoring the initial matrix
+    private void unselectGivens(int givenCount) {
+        for (int i = givenCount - 1; i >= 0; i--) {
+            unselectRow(selected[i]);
+        }
+        selectedCount = 0;
+        dirty = false;
+    }
+
+    // Select a given's row unless one of its columns is already covered
+    private boolean selectGiven(int first) {
+        for (int k = 0; k < NODES_PER_ROW; k++) {
+            if (covered[column[first + k]]) {
+                return false;
+            }
+        }
+        selectRow(first);
+        selected[selectedCount++] = first;
+        return true;
+    }
+
+    // Average Time Complexity: far below the O(N^n) of plain backtracking, the
+    // smallest-column heuristic makes every forced placement a single step
+    // Space Complexity: O(1) — recursion depth is bounded by N^2 (81 for 9x9)
+    private boolean search(SolveContext context, int depth) {
+        context.checkpoint();
+        context.getStats().node(depth);
+
+        if (right[ROOT] == ROOT) {
+            return true; // every constraint satisfied
+        }
+
+        // Choose the column with the fewest remaining rows
+        int best = right[ROOT];
+        for (int c = right[best]; c != ROOT; c = right[c]) {
+            if (size[c] < size[best]) {
+                best = c;
+            }
+        }
+        if (size[best] == 0) {
+            return false;
+        }
+
+        cover(best);
+        for (int r = down[best]; r != best; r = down[r]) {
+            selected[selectedCount++] = r;
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(column[j]);
+            }
+            boolean found = search(context, depth + 1);
+            for (int j = left[r]; j != r; j = left[j]) {
+                uncover(column[j]);
+            }
+            if (found) {
+                uncover(best);
+                return true;
+            }
+            selectedCount--;
+            context.getStats().backtrack();
+        }
+        uncover(best);
+        return false;
+    }
+
+    private int count(int limit, SolveContext context, int depth) {
+        context.checkpoint();
+        context.getStats().node(depth);
+
+        if (right[ROOT] == ROOT) {
+            return 1;
+        }
+
+        int best = right[ROOT];
+        for (int c = right[best]; c != ROOT; c = right[c]) {
+            if (size[c] < size[best]) {
+                best = c;
+            }
+        }
+        if (size[best] == 0) {
+            return 0;
+        }
+
+        int solutions = 0;
+        cover(best);
+        for (int r = down[best]; r != best && solutions < limit; r = down[r]) {
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(column[j]);
+            }
+            solutions += count(limit - solutions, context, depth + 1);
+            for (int j = left[r]; j != r; j = left[j]) {
+                uncover(column[j]);
+            }
+        }
+        uncover(best);
+        return solutions;
+    }
+
+    private void selectRow(int node) {
+        cover(column[node]);
+        for (int j = right[node]; j != node; j = right[j]) {
+            cover(column[j]);
+        }
+    }
+
+    private void unselectRow(int node) {
+        for (int j = left[node]; j != node; j = left[j]) {
+            uncover(column[j]);
+        }
+        uncover(column[node]);
+    }
+
+    // Remove column c and every row that intersects it
+    private void cover(int c) {
+        right[left[c]] = right[c];
+        left[right[c]] = left[c];
+        covered[c] = true;
+        for (int i = down[c]; i != c; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                down[up[j]] = down[j];
+                up[down[j]] = up[j];
+                size[column[j]]--;
+            }
+        }
+    }
+
+    // Exact inverse of cover(c), links are restored in reverse order
+    private void uncover(int c) {
+        for (int i = up[c]; i != c; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                size[column[j]]++;
+                down[up[j]] = j;
+                up[down[j]] = j;
+            }
+        }
+        covered[c] = false;
+        right[left[c]] = c;
+        left[right[c]] = c;
+    }
+
+    // Time Complexity: O(N^2)
+    // Any supported board size, see BoardGeometry.isValidBoard
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.isValidBoard(board);
+    }
+
+    @Override
+    public boolean supportsBoxSize(int boxSize) {
+        return boxSize >= BoardGeometry.MIN_BOX_SIZE && boxSize <= BoardGeometry.MAX_BOX_SIZE;
+    }
+}
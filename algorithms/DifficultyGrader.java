@@ -0,0 +1,343 @@
+package algorithms;
+
+import structures.BoardGeometry;
+import structures.List;
+
+// Technique-based difficulty rating.
+// A puzzle is solved the way a person would, in rounds: each round applies the
+// easiest technique of a ladder that still makes progress. For the singles a
+// round places every single visible on the board at the start of the round,
+// so the number of rounds is the length of the chain of deductions; the other
+// rungs are the PropagationRules, applied one pass per round.
+// The rating is the weight of the hardest technique needed, on the scale of
+// Sudoku Explainer (hidden single 1.5 ... hidden pair 3.4), plus 0.1 for every
+// round after the first, up to MAX_ROUND_BONUS, since long chains of easy steps
+// are harder than short ones. When the ladder gets stuck the puzzle needs
+// search: the rating is then SEARCH_RATING plus half the log2 of the number of
+// guesses the constraint solver makes, so heavier trial and error rates higher.
+//
+// A grade is a few passes over the board, and the search fallback reuses the
+// constraint solver, so grading costs about as much as solving and large
+// corpora can be graded in bulk. The grader keeps its engine between puzzles
+// and is not thread-safe; use one grader per thread.
+public class DifficultyGrader {
+    public static final double SEARCH_RATING = 5.0;
+    public static final String SEARCH = "Search";
+
+    private static final double ROUND_BONUS = 0.1;
+    private static final double MAX_ROUND_BONUS = 0.9;
+
+    // The ladder, easiest first, and the rating of each rung. The singles are
+    // applied by the grader itself (see singlesRound), the rest by their rule
+    private static final String[] TECHNIQUES = { "Hidden Single", "Naked Single", "Pointing/Claiming",
+            "Naked Pair", "X-Wing", "Hidden Pair" };
+    private static final PropagationRule[] RULES = { null, null, PropagationRules.POINTING_CLAIMING,
+            PropagationRules.NAKED_PAIRS, PropagationRules.X_WING, PropagationRules.HIDDEN_PAIRS };
+    private static final double[] RATINGS = { 1.5, 2.3, 2.6, 3.0, 3.2, 3.4 };
+    private static final int HIDDEN_SINGLE = 0;
+    private static final int NAKED_SINGLE = 1;
+
+    // Upper rating bound of each tier, and the tier names of the puzzle files:
+    // easy needs at most 2 rounds of hidden singles, medium 3, hard longer
+    // chains of singles, very_hard pointing/claiming, pairs, fish or search
+    private static final double[] TIER_BOUNDS = { 1.6, 1.7, 2.5 };
+    private static final String[] TIERS = { "easy", "medium", "hard", "very_hard" };
+
+    private final ConstraintSatisfaction searcher = new ConstraintSatisfaction();
+    private BitmaskEngine engine = new BitmaskEngine();
+    private int[] placements = new int[engine.cellCount];
+
+    // Solvers the grades are routed to, created on first use
+    private RMIT_Sudoku_Solver singlesSolver;
+    private RMIT_Sudoku_Solver propagationSolver;
+    private RMIT_Sudoku_Solver searchSolver;
+
+    // Time Complexity: O(T * N^3) per round, plus a full solve when stuck
+    // Throws IllegalArgumentException for an invalid or unsolvable puzzle
+    public Grade grade(int[][] puzzle) {
+        if (!searcher.isValidBoard(puzzle)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+        int boxSize = BoardGeometry.boxSizeOf(puzzle);
+        if (engine.getGeometry().boxSize != boxSize) {
+            engine = new BitmaskEngine(boxSize);
+            placements = new int[engine.cellCount];
+        }
+        if (!engine.load(puzzle)) {
+            throw new IllegalArgumentException("Puzzle has no solution.");
+        }
+        int givens = engine.cellCount - engine.emptyCount;
+
+        int hardest = -1;
+        int rounds = 0;
+        while (engine.emptyCount > 0) {
+            int level = 0;
+            int result = 0;
+            for (; level < TECHNIQUES.length; level++) {
+                result = level <= NAKED_SINGLE ? singlesRound(level) : RULES[level].apply(engine);
+                if (result != 0) {
+                    break;
+                }
+            }
+            if (result == PropagationRule.CONTRADICTION) {
+                throw new IllegalArgumentException("Puzzle has no solution.");
+            }
+            if (result == 0) {
+                break; // stuck
+            }
+            hardest = Math.max(hardest, level);
+            rounds++;
+        }
+
+        if (engine.emptyCount == 0) {
+            double bonus = Math.min(MAX_ROUND_BONUS, ROUND_BONUS * Math.max(0, rounds - 1));
+            double rating = hardest < 0 ? 0 : RATINGS[hardest] + bonus;
+            return new Grade(rating, hardest, rounds, givens, 0);
+        }
+
+        // Stuck: the remaining cells need trial and error
+        int[][] board = new int[puzzle.length][];
+        for (int i = 0; i < puzzle.length; i++) {
+            board[i] = puzzle[i].clone();
+        }
+        try {
+            searcher.solve(board, new SolveContext());
+        } catch (SolveTimeoutException | SolveCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Puzzle has no solution.");
+        }
+        long branches = searcher.getBranchCount();
+        double rating = SEARCH_RATING + 0.5 * Math.log(1 + branches) / Math.log(2);
+        return new Grade(rating, TECHNIQUES.length, rounds, givens, branches);
+    }
+
+    // Time Complexity: O(N^2) for naked singles, O(3N * N) for hidden singles
+    // Place every hidden (or naked) single of the current board at once; the
+    // placements are collected first so that one round never sees its own
+    // deductions. Returns the number placed or CONTRADICTION.
+    private int singlesRound(int level) {
+        int found = 0;
+        if (level == NAKED_SINGLE) {
+            for (int cell = 0; cell < engine.cellCount; cell++) {
+                if (engine.cells[cell] != 0) {
+                    continue;
+                }
+                int candidates = engine.candidates(cell);
+                if (candidates == 0) {
+                    return PropagationRule.CONTRADICTION;
+                }
+                if ((candidates & (candidates - 1)) == 0) {
+                    placements[found++] = cell * 32 + BitmaskEngine.lowestDigit(candidates);
+                }
+            }
+        } else {
+            for (int[] unit : engine.units) {
+                int once = 0;
+                int twice = 0;
+                for (int cell : unit) {
+                    if (engine.cells[cell] == 0) {
+                        int candidates = engine.candidates(cell);
+                        twice |= once & candidates;
+                        once |= candidates;
+                    }
+                }
+                int singles = once & ~twice;
+                if (singles == 0) {
+                    continue;
+                }
+                for (int cell : unit) {
+                    int digits = engine.cells[cell] == 0 ? engine.candidates(cell) & singles : 0;
+                    if ((digits & (digits - 1)) != 0) {
+                        return PropagationRule.CONTRADICTION; // one cell needs two digits
+                    }
+                    if (digits != 0) {
+                        placements[found++] = cell * 32 + BitmaskEngine.lowestDigit(digits);
+                    }
+                }
+            }
+        }
+
+        int placed = 0;
+        for (int i = 0; i < found; i++) {
+            int cell = placements[i] / 32;
+            int digit = placements[i] % 32;
+            if (engine.cells[cell] == digit) {
+                continue; // the same single seen from another unit
+            }
+            if (engine.cells[cell] != 0 || (engine.candidates(cell) & BitmaskEngine.bitOf(digit)) == 0) {
+                return PropagationRule.CONTRADICTION;
+            }
+            engine.assign(cell, digit);
+            placed++;
+        }
+        return placed;
+    }
+
+    // Tier of the puzzle files a rating belongs to
+    public static String tierOf(double rating) {
+        for (int i = 0; i < TIER_BOUNDS.length; i++) {
+            if (rating <= TIER_BOUNDS[i]) {
+                return TIERS[i];
+            }
+        }
+        return TIERS[TIERS.length - 1];
+    }
+
+    // The cheapest solver that handles a grade: puzzles that singles alone
+    // solve skip the pair and pointing passes, puzzles the whole ladder solves
+    // never branch in the constraint solver, and only search puzzles pay for
+    // Dancing Links, whose cost does not depend on the deductions available.
+    // The solvers are owned by this grader, like the grader they are not
+    // thread-safe.
+    public RMIT_Sudoku_Solver route(Grade grade) {
+        if (grade.level <= NAKED_SINGLE) {
+            if (singlesSolver == null) {
+                singlesSolver = new ConstraintSatisfaction(new ConstraintPropagator(
+                        PropagationRules.NAKED_SINGLES, PropagationRules.HIDDEN_SINGLES));
+            }
+            return singlesSolver;
+        }
+        if (!grade.needsSearch()) {
+            if (propagationSolver == null) {
+                propagationSolver = new ConstraintSatisfaction();
+            }
+            return propagationSolver;
+        }
+        if (searchSolver == null) {
+            searchSolver = new DancingLinks();
+        }
+        return searchSolver;
+    }
+
+    // SimpleGenetic parameters for a graded 9x9 puzzle, on the scale that
+    // SudokuBenchmark used per file. The genetic search space grows with the
+    // empty cells, so the level starts from the share of givens (the given
+    // counts of the easy, medium, hard and very_hard files), and goes up one
+    // step for puzzles that need more than hidden singles and one more for
+    // puzzles that need search.
+    public static GeneticParameters geneticParameters(Grade grade) {
+        double givenShare = grade.givens / 81.0;
+        int level = givenShare >= 0.6 ? 0 : givenShare >= 0.53 ? 1 : givenShare >= 0.42 ? 2 : 3;
+        if (grade.level > HIDDEN_SINGLE) {
+            level++;
+        }
+        if (grade.needsSearch()) {
+            level++;
+        }
+        return geneticParameters(Math.min(level, 3));
+    }
+
+    private static GeneticParameters geneticParameters(int level) {
+        int populationSize = 20;
+        double mutationRate = 0.2;
+        int maxGenerations = 10;
+        switch (level) {
+            case 1 -> {
+                populationSize *= 5;
+                mutationRate *= 2;
+            }
+            case 2 -> {
+                populationSize *= 20;
+                mutationRate *= 8;
+                maxGenerations *= 2;
+            }
+            case 3 -> {
+                populationSize *= 30;
+                mutationRate *= 16;
+                maxGenerations *= 3;
+            }
+            default -> {
+            }
+        }
+        return new GeneticParameters(populationSize, mutationRate, maxGenerations);
+    }
+
+    // Time Complexity: O(P * G) for P puzzles and G the cost of one grade
+    // Parameters sized for the hardest of a set of puzzles. Puzzles that cannot
+    // be graded (invalid or unsolvable) get the largest parameters.
+    public GeneticParameters geneticParameters(List<int[][]> puzzles) {
+        GeneticParameters largest = geneticParameters(0);
+        for (int i = 0; i < puzzles.size(); i++) {
+            GeneticParameters parameters;
+            try {
+                parameters = geneticParameters(grade(puzzles.get(i)));
+            } catch (IllegalArgumentException e) {
+                parameters = geneticParameters(3);
+            }
+            if (parameters.populationSize > largest.populationSize) {
+                largest = parameters;
+            }
+        }
+        return largest;
+    }
+
+    // Result of grading one puzzle
+    public static class Grade {
+        private final double rating;
+        private final int level; // index of the hardest technique, TECHNIQUES.length for search
+        private final int rounds;
+        private final int givens;
+        private final long branches;
+
+        Grade(double rating, int level, int rounds, int givens, long branches) {
+            this.rating = rating;
+            this.level = level;
+            this.rounds = rounds;
+            this.givens = givens;
+            this.branches = branches;
+        }
+
+        public double getRating() {
+            return rating;
+        }
+
+        // Name of the hardest technique needed, or SEARCH when the ladder got stuck
+        public String getHardestTechnique() {
+            if (level < 0) {
+                return "None";
+            }
+            return level < TECHNIQUES.length ? TECHNIQUES[level] : SEARCH;
+        }
+
+        public boolean needsSearch() {
+            return level == TECHNIQUES.length;
+        }
+
+        public String getTier() {
+            return tierOf(rating);
+        }
+
+        // Rounds of deductions before the puzzle was solved or the ladder got stuck
+        public int getRounds() {
+            return rounds;
+        }
+
+        public int getGivens() {
+            return givens;
+        }
+
+        // Guesses the constraint solver made after the ladder got stuck
+        public long getBranches() {
+            return branches;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.1f (%s, %d rounds, %s)", rating, getHardestTechnique(), rounds, getTier());
+        }
+    }
+
+    // Parameters of a SimpleGenetic run
+    public static class GeneticParameters {
+        public final int populationSize;
+        public final double mutationRate;
+        public final int maxGenerations;
+
+        GeneticParameters(int populationSize, double mutationRate, int maxGenerations) {
+            this.populationSize = populationSize;
+            this.mutationRate = mutationRate;
+            this.maxGenerations = maxGenerations;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package algorithms;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import algorithms.SimpleGenetic.Individual;
+import structures.ArrayList;
+import structures.Board;
+import structures.List;
+
+// Island-model genetic algorithm.
+// N independent SimpleGenetic populations (islands) evolve on their own
+// threads. Every migrationInterval generations each island sends its
+// migrantCount best individuals to its neighbours, as given by the topology,
+// and replaces its worst individuals, one per migrant that has arrived (both
+// found by quickselect, not a full sort). Migration goes through one
+// lock-free ConcurrentLinkedQueue inbox per island, so islands never wait for
+// each other: a slow island simply picks up migrants later.
+// Keeping the islands apart preserves diversity, and the migrants spread good
+// building blocks, which helps where a single population stagnates.
+// The first island to reach fitness 0 cancels the others.
+//
+// Each island has its own random stream split from the seed. Runs are not
+// reproducible, because migrants arrive whenever the other threads send them.
+public class IslandGenetic implements RMIT_Sudoku_Solver {
+    // Which islands receive an island's emigrants
+    public enum Topology {
+        RING, // the next island, wrapping around
+        ALL_TO_ALL, // every other island
+        RANDOM // one other island chosen at random each migration
+    }
+
+    private final int islandCount;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final Topology topology;
+    private final long seed;
+    private final SimpleGenetic genetic;
+
+    // Constructor - 4 islands on a ring, exchanging their 2 best individuals every
+    // 5 generations, with a random seed
+    public IslandGenetic(int islandPopulation, double mutationRate, int maxGenerations) {
+        this(4, islandPopulation, mutationRate, maxGenerations, 5, 2, Topology.RING,
+                new SplittableRandom().nextLong());
+    }
+
+    public IslandGenetic(int islandCount, int islandPopulation, double mutationRate, int maxGenerations,
+            int migrationInterval, int migrantCount, Topology topology, long seed) {
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("Island count must be at least 1.");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be at least 1.");
+        }
+        if (migrantCount < 0 || migrantCount > islandPopulation / 2) {
+            throw new IllegalArgumentException("Migrant count must be between 0 and half the island population.");
+        }
+        this.islandCount = islandCount;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+        this.topology = topology;
+        this.seed = seed;
+        // Each island's sequential generation step; the islands are the parallelism
+        this.genetic = new SimpleGenetic(islandPopulation, mutationRate, maxGenerations, PopulationSort.QUICKSELECT,
+                seed, false);
+
+        System.out.println("Islands: " + islandCount + ", migration every " + migrationInterval + " generations, "
+                + migrantCount + " migrants, topology " + topology + " \n");
+    }
+
+    // Time Complexity: O(G * P(log(P))) per island, islands run concurrently
+    // Space Complexity: O(N * P)
+    @Override
+    public int[][] solve(int[][] grid, SolveContext context) {
+        if (!isValidBoard(grid)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+
+        Board puzzle = Board.fromGrid(grid);
+        // Shared by all islands: cancelled by the first island to solve the puzzle
+        SolveContext islandsContext = context.fork();
+        AtomicReference<Board> solution = new AtomicReference<>();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Individual[] bests = new Individual[islandCount];
+
+        List<ConcurrentLinkedQueue<Individual>> inboxes = new ArrayList<>(islandCount);
+        for (int i = 0; i < islandCount; i++) {
+            inboxes.add(new ConcurrentLinkedQueue<>());
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Thread[] threads = new Thread[islandCount];
+        Island[] islands = new Island[islandCount];
+        for (int i = 0; i < islandCount; i++) {
+            Island island = new Island(i, puzzle, random.split(), inboxes, islandsContext, solution, bests);
+            islands[i] = island;
+            threads[i] = new Thread(() -> {
+                try {
+                    island.run();
+                } catch (SolveCancelledException e) {
+                    // another island found the solution, or the caller cancelled
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    islandsContext.cancel();
+                }
+            }, "island-" + i);
+            threads[i].start();
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            islandsContext.cancel();
+            Thread.currentThread().interrupt();
+            throw new SolveCancelledException();
+        }
+        for (Island island : islands) {
+            context.getStats().add(island.context.getStats());
+        }
+
+        if (solution.get() != null) {
+            return solution.get().toGrid();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        context.check(); // the caller's own timeout or cancellation
+
+        // No island reached fitness 0: return the best board of all islands
+        Individual best = null;
+        for (Individual individual : bests) {
+            if (individual != null && (best == null || individual.fitness < best.fitness)) {
+                best = individual;
+            }
+        }
+        return best.board.toGrid();
+    }
+
+    // One sub-population evolving on its own thread
+    private class Island {
+        private final int index;
+        private final Board puzzle;
+        private final SplittableRandom random;
+        private final List<ConcurrentLinkedQueue<Individual>> inboxes;
+        private final SolveContext race; // shared by the islands, cancelled on the first solution
+        private final SolveContext context; // fork of the race with the counters of this island
+        private final AtomicReference<Board> solution;
+        private final Individual[] bests;
+        // The newest migrants drained from the inbox, at most half the population
+        private final Individual[] arrivals = new Individual[genetic.POPULATION_SIZE / 2];
+
+        Island(int index, Board puzzle, SplittableRandom random, List<ConcurrentLinkedQueue<Individual>> inboxes,
+                SolveContext context, AtomicReference<Board> solution, Individual[] bests) {
+            this.index = index;
+            this.puzzle = puzzle;
+            this.random = random;
+            this.inboxes = inboxes;
+            this.race = context;
+            this.context = context.fork();
+            this.solution = solution;
+            this.bests = bests;
+        }
+
+        void run() {
+            List<Individual> population = genetic.initializePopulation(puzzle, random);
+            SolveStats stats = context.getStats();
+            stats.evaluated(genetic.POPULATION_SIZE);
+
+            for (int generation = 0; generation < genetic.MAX_GENERATIONS; generation++) {
+                context.check();
+                stats.generation();
+                genetic.rankPopulation(population);
+
+                if (population.get(0).fitness == 0) {
+                    if (solution.compareAndSet(null, population.get(0).board)) {
+                        race.cancel();
+                    }
+                    return;
+                }
+
+                if (generation > 0 && generation % migrationInterval == 0 && islandCount > 1) {
+                    migrate(population);
+                    genetic.rankPopulation(population);
+                }
+
+                population = genetic.nextGeneration(population, puzzle, random);
+                stats.evaluated(genetic.POPULATION_SIZE - genetic.POPULATION_SIZE / 2);
+            }
+
+            genetic.rankPopulation(population);
+            bests[index] = population.get(0);
+        }
+
+        // Time Complexity: O(P + N * migrants), P the population size
+        // Send the migrantCount fittest individuals, then replace the worst
+        // individuals with the migrants received since the last migration. Both
+        // are partial selections (PopulationSort.quickselect of size k), since
+        // the ranking only orders index 0 and the elite half. At most half the
+        // population is replaced and only the newest arrivals are kept, so the
+        // inbox cannot grow without bound.
+        // Individuals are never changed after creation, so they can be shared.
+        private void migrate(List<Individual> population) {
+            if (migrantCount > 0) {
+                PopulationSort.quickselect(population, migrantCount);
+            }
+            for (int m = 0; m < migrantCount; m++) {
+                Individual migrant = population.get(m);
+                switch (topology) {
+                    case RING -> inboxes.get((index + 1) % islandCount).offer(migrant);
+                    case ALL_TO_ALL -> {
+                        for (int target = 0; target < islandCount; target++) {
+                            if (target != index) {
+                                inboxes.get(target).offer(migrant);
+                            }
+                        }
+                    }
+                    case RANDOM -> {
+                        int target = random.nextInt(islandCount - 1);
+                        inboxes.get(target >= index ? target + 1 : target).offer(migrant);
+                    }
+                }
+            }
+
+            // Ring buffer of the newest arrivals
+            int received = 0;
+            Individual arrival;
+            while ((arrival = inboxes.get(index).poll()) != null) {
+                if (arrivals.length > 0) {
+                    arrivals[received % arrivals.length] = arrival;
+                }
+                received++;
+            }
+            int replaced = Math.min(received, arrivals.length);
+            if (replaced == 0) {
+                return;
+            }
+
+            // [size - replaced, size) now holds the worst individuals
+            int size = population.size();
+            PopulationSort.quickselect(population, size - replaced);
+            for (int i = 0; i < replaced; i++) {
+                population.set(size - 1 - i, arrivals[i]);
+                arrivals[i] = null;
+            }
+        }
+    }
+
+    // Same rules as SimpleGenetic
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return genetic.isValidBoard(board);
+    }
+}
@@ -0,0 +1,214 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import structures.BoardGeometry;
+
+// Parallel version of the Constraint Satisfaction search for a single puzzle.
+// The first splitDepth levels of the MRV search tree are turned into fork-join
+// tasks, one per candidate value, each working on its own copy of the bitmask
+// engine. Below that depth every task runs the usual sequential search.
+// As soon as one task finds a solution all sibling tasks return at their next
+// node; if no task finds one, the whole tree has been exhausted in parallel and
+// the puzzle is unsatisfiable. Every task checks the deadline and cancellation
+// through its own fork() of the caller's SolveContext.
+public class ParallelConstraintSatisfaction implements RMIT_Sudoku_Solver {
+    private static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    private final ForkJoinPool pool;
+    private final int splitDepth;
+
+    // Propagation counters are not thread-safe, so every worker has its own
+    private final ThreadLocal<ConstraintPropagator> propagators = ThreadLocal
+            .withInitial(ConstraintPropagator::standard);
+
+    public ParallelConstraintSatisfaction() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+    }
+
+    public ParallelConstraintSatisfaction(ForkJoinPool pool, int splitDepth) {
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException("Split depth must not be negative.");
+        }
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+    }
+
+    @Override
+    public int[][] solve(int[][] board, SolveContext context) {
+        if (!isValidBoard(board)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+
+        BitmaskEngine root = new BitmaskEngine(BoardGeometry.boxSizeOf(board));
+        if (!root.load(board)) {
+            throw new RuntimeException("Parallel Constraint Satisfaction failed to solve the puzzle.");
+        }
+
+        int checkInterval = context.scaleCheckInterval(board.length);
+        Search search = new Search();
+        SearchTask task = new SearchTask(search, context, root, 0);
+        try {
+            pool.invoke(task);
+        } finally {
+            context.restoreCheckInterval(checkInterval);
+            context.getStats().add(task.collectStats());
+        }
+
+        BitmaskEngine solution = search.solution.get();
+        if (solution == null) {
+            throw new RuntimeException("Parallel Constraint Satisfaction failed to solve the puzzle.");
+        }
+        solution.writeTo(board);
+        return board;
+    }
+
+    // State shared by all tasks of one solve
+    private static class Search {
+        final AtomicReference<BitmaskEngine> solution = new AtomicReference<>();
+
+        // Once a solution is published every other task stops at its next node
+        boolean isDone() {
+            return solution.get() != null;
+        }
+
+        void found(BitmaskEngine engine) {
+            solution.compareAndSet(null, engine);
+        }
+    }
+
+    private class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final SolveContext context;
+        private final BitmaskEngine engine;
+        private final int depth;
+        private SearchTask[] children = new SearchTask[0];
+
+        SearchTask(Search search, SolveContext parentContext, BitmaskEngine engine, int depth) {
+            this.search = search;
+            this.context = parentContext.fork();
+            this.engine = engine;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (search.isDone()) {
+                return;
+            }
+            context.check(); // a task queued behind a failed sibling stops here
+            if (depth >= splitDepth) {
+                if (sequentialSearch(engine, propagators.get(), depth)) {
+                    search.found(engine);
+                }
+                return;
+            }
+
+            context.getStats().node(depth);
+            if (!propagators.get().propagate(engine, context.getStats())) {
+                return;
+            }
+            int cell = engine.mostConstrainedCell();
+            if (cell < 0) {
+                search.found(engine);
+                return;
+            }
+
+            // One subtask per candidate value, each with its own engine copy
+            int possibleValues = engine.candidates(cell);
+            children = new SearchTask[Integer.bitCount(possibleValues)];
+            for (int i = 0; i < children.length; i++) {
+                BitmaskEngine child = new BitmaskEngine(engine.getGeometry());
+                child.copyFrom(engine);
+                child.assign(cell, BitmaskEngine.lowestDigit(possibleValues));
+                possibleValues &= possibleValues - 1;
+                children[i] = new SearchTask(search, context, child, depth + 1);
+            }
+
+            // Unlike invokeAll, wait for every subtask even when one fails, so
+            // that none is still running when collectStats() reads the counters;
+            // the first failure cancels the others through this task's context
+            for (int i = children.length - 1; i > 0; i--) {
+                children[i].fork();
+            }
+            RuntimeException failure = null;
+            for (int i = 0; i < children.length; i++) {
+                try {
+                    if (i == 0) {
+                        children[0].invoke();
+                    } else {
+                        children[i].join();
+                    }
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                        context.cancel();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        // Counters of this task and all its subtasks. Only called once the root
+        // task has returned or thrown, when every subtask has finished
+        SolveStats collectStats() {
+            SolveStats total = new SolveStats();
+            total.add(context.getStats());
+            for (SearchTask child : children) {
+                total.add(child.collectStats());
+            }
+            return total;
+        }
+
+        // Same MRV + propagation search as ConstraintSatisfaction, returning early
+        // once another task has found a solution
+        private boolean sequentialSearch(BitmaskEngine engine, ConstraintPropagator propagator, int depth) {
+            if (search.isDone()) {
+                return false;
+            }
+            context.checkpoint();
+            SolveStats stats = context.getStats();
+            stats.node(depth);
+
+            if (!propagator.propagate(engine, stats)) {
+                return false;
+            }
+            int cell = engine.mostConstrainedCell();
+            if (cell < 0) {
+                return true;
+            }
+
+            int possibleValues = engine.candidates(cell);
+            while (possibleValues != 0) {
+                int value = BitmaskEngine.lowestDigit(possibleValues);
+                possibleValues &= possibleValues - 1;
+                engine.push();
+                engine.assign(cell, value);
+                if (sequentialSearch(engine, propagator, depth + 1)) {
+                    return true;
+                }
+                engine.pop();
+                stats.backtrack();
+            }
+            return false;
+        }
+    }
+
+    // Time Complexity: O(N^2)
+    // Any supported board size, see BoardGeometry.isValidBoard
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.isValidBoard(board);
+    }
+
+    @Override
+    public boolean supportsBoxSize(int boxSize) {
+        return boxSize >= BoardGeometry.MIN_BOX_SIZE && boxSize <= BoardGeometry.MAX_BOX_SIZE;
+    }
+}
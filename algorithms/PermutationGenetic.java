@@ -0,0 +1,233 @@
+package algorithms;
+
+import java.util.SplittableRandom;
+
+import algorithms.SimpleGenetic.Individual;
+import structures.ArrayList;
+import structures.Board;
+import structures.BoardGeometry;
+import structures.List;
+
+// Genetic solver with a permutation-preserving encoding.
+// Every row of every individual always holds a permutation of 1-9 that keeps
+// the givens in place: the initial population fills each row's empty cells
+// with a permutation of its missing digits, crossover copies whole rows from
+// either parent and mutation swaps two non-given cells of the same row. Rows can therefore
+// never contain duplicates, and the SimpleGenetic fitness (extra occurrences
+// per unit) reduces to column and box conflicts only. Unlike SimpleGenetic,
+// where cells are filled independently, no generation is spent repairing rows.
+public class PermutationGenetic implements RMIT_Sudoku_Solver {
+    private static final int GRID_SIZE = 9;
+    private static final int TOURNAMENT_SIZE = 5;
+    private static final int SWAP_ATTEMPTS = 10;
+
+    private final int populationSize;
+    private final double mutationRate; // Chance per row of one swap mutation
+    private final int maxGenerations;
+    private final long seed;
+    private int lastGenerations = 0;
+
+    public PermutationGenetic(int populationSize, double mutationRate, int maxGenerations) {
+        this(populationSize, mutationRate, maxGenerations, new SplittableRandom().nextLong());
+    }
+
+    public PermutationGenetic(int populationSize, double mutationRate, int maxGenerations, long seed) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2.");
+        }
+        this.populationSize = populationSize;
+        this.mutationRate = mutationRate;
+        this.maxGenerations = maxGenerations;
+        this.seed = seed;
+
+        SimpleGenetic.printGAConfig(populationSize, mutationRate, maxGenerations);
+    }
+
+    // Time Complexity: O(G * P)
+    // Space Complexity: O(P)
+    @Override
+    public int[][] solve(int[][] grid, SolveContext context) {
+        if (!isValidBoard(grid)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+
+        Board puzzle = Board.fromGrid(grid);
+        int[][] freeCells = freeCellsByRow(puzzle);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Individual> population = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            population.add(new Individual(randomPermutations(puzzle, freeCells, random), random));
+        }
+
+        lastGenerations = 0;
+        SolveStats stats = context.getStats();
+        stats.evaluated(populationSize);
+        for (int generation = 0; generation < maxGenerations; generation++) {
+            context.check();
+            stats.generation();
+            PopulationSort.QUICKSELECT.rank(population, populationSize / 2);
+            lastGenerations = generation + 1;
+
+            if (population.get(0).fitness == 0) {
+                return population.get(0).board.toGrid();
+            }
+
+            List<Individual> nextGeneration = new ArrayList<>(populationSize);
+            for (int i = 0; i < populationSize / 2; i++) {
+                nextGeneration.add(population.get(i));
+            }
+            while (nextGeneration.size() < populationSize) {
+                Individual parent1 = tournamentSelection(population, random);
+                Individual parent2 = tournamentSelection(population, random);
+                Individual child = new Individual(crossover(parent1.board, parent2.board, random), random);
+                mutate(child, puzzle, freeCells, random);
+                nextGeneration.add(child);
+                stats.evaluated(1);
+            }
+            population = nextGeneration;
+        }
+
+        PopulationSort.QUICKSELECT.rank(population, 1);
+        return population.get(0).board.toGrid();
+    }
+
+    // Number of generations the last solve ran
+    public int getGenerationCount() {
+        return lastGenerations;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // The non-given cells of each row
+    private static int[][] freeCellsByRow(Board puzzle) {
+        int[][] freeCells = new int[GRID_SIZE][];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            int count = 0;
+            for (int cell : Board.UNITS[row]) {
+                if (puzzle.get(cell) == 0) {
+                    count++;
+                }
+            }
+            freeCells[row] = new int[count];
+            count = 0;
+            for (int cell : Board.UNITS[row]) {
+                if (puzzle.get(cell) == 0) {
+                    freeCells[row][count++] = cell;
+                }
+            }
+        }
+        return freeCells;
+    }
+
+    // Time Complexity: O(81 * 20) = O(1)
+    // Fill the free cells of every row with a permutation of the digits missing
+    // from that row. Rows are filled top to bottom and the free cells of a row in
+    // random order; each cell takes a random missing digit that none of its peers
+    // holds yet if there is one, any remaining missing digit otherwise. This is
+    // the constructive start SimpleGenetic uses, restricted to permutations
+    private static Board randomPermutations(Board puzzle, int[][] freeCells, SplittableRandom random) {
+        Board board = puzzle.copy();
+        int[] order = new int[GRID_SIZE];
+        int[] choices = new int[GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            int missing = 0x3FE; // digits 1-9 as bits 1-9
+            for (int cell : Board.UNITS[row]) {
+                missing &= ~(1 << puzzle.get(cell));
+            }
+
+            int count = freeCells[row].length;
+            System.arraycopy(freeCells[row], 0, order, 0, count);
+            shuffle(order, count, random);
+            for (int i = 0; i < count; i++) {
+                int cell = order[i];
+                int allowed = missing & ~(board.peerDigits(cell) << 1);
+                int pool = allowed != 0 ? allowed : missing;
+                int choiceCount = 0;
+                for (int digit = 1; digit <= GRID_SIZE; digit++) {
+                    if ((pool & (1 << digit)) != 0) {
+                        choices[choiceCount++] = digit;
+                    }
+                }
+                int digit = choices[random.nextInt(choiceCount)];
+                board.set(cell, digit);
+                missing &= ~(1 << digit);
+            }
+        }
+        return board;
+    }
+
+    // Fisher-Yates shuffle of the first count values
+    private static void shuffle(int[] values, int count, SplittableRandom random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    // Time Complexity: O(1)
+    private static Individual tournamentSelection(List<Individual> population, SplittableRandom random) {
+        Individual fittest = population.get(random.nextInt(population.size()));
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            Individual contender = population.get(random.nextInt(population.size()));
+            if (contender.fitness < fittest.fitness) {
+                fittest = contender;
+            }
+        }
+        return fittest;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Row-wise uniform crossover: each row is copied whole from one parent, so it
+    // stays a permutation
+    private static Board crossover(Board parent1, Board parent2, SplittableRandom random) {
+        Board child = new Board();
+        for (int row = 0; row < GRID_SIZE; row++) {
+            Board parent = random.nextBoolean() ? parent1 : parent2;
+            for (int cell : Board.UNITS[row]) {
+                child.set(cell, parent.get(cell));
+            }
+        }
+        return child;
+    }
+
+    // Time Complexity: O(9) = O(1)
+    // With probability mutationRate per row, swap two of its non-given cells.
+    // A swap that would put a digit into a column or box where it is a given is
+    // rejected (up to SWAP_ATTEMPTS tries), since it can never be part of the
+    // solution. The fitness is updated incrementally by Individual.setCell
+    private void mutate(Individual individual, Board puzzle, int[][] freeCells, SplittableRandom random) {
+        for (int row = 0; row < GRID_SIZE; row++) {
+            int[] cells = freeCells[row];
+            if (cells.length < 2 || random.nextDouble() >= mutationRate) {
+                continue;
+            }
+            for (int attempt = 0; attempt < SWAP_ATTEMPTS; attempt++) {
+                int first = random.nextInt(cells.length);
+                int second = random.nextInt(cells.length - 1);
+                if (second >= first) {
+                    second++;
+                }
+                int a = cells[first];
+                int b = cells[second];
+                int valueA = individual.board.get(a);
+                int valueB = individual.board.get(b);
+                if ((puzzle.peerDigits(a) & (1 << (valueB - 1))) != 0
+                        || (puzzle.peerDigits(b) & (1 << (valueA - 1))) != 0) {
+                    continue;
+                }
+                individual.setCell(a, valueB);
+                individual.setCell(b, valueA);
+                break;
+            }
+        }
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // The permutation encoding is built on the 9x9 structures.Board, so only 9x9 boards are valid
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.boxSizeOf(board) == Board.BOX_SIZE && BoardGeometry.isValidBoard(board);
+    }
+}
@@ -0,0 +1,215 @@
+package algorithms;
+
+import algorithms.SimpleGenetic.Individual;
+import structures.ArrayList;
+import structures.List;
+
+// How SimpleGenetic ranks its population by fitness before each generation.
+// A generation only needs the fittest individual at index 0 (to detect a
+// solution) and the fittest half at the front (the elite that survives), so a
+// full sort is more work than necessary:
+// - MERGE_SORT: full stable sort, O(P log P), allocates sub-lists per level
+// - BUBBLE_SORT: full sort, O(P^2), the original scratch sort
+// - HEAP_SORT: full in-place sort, O(P log P), allocation free
+// - QUICKSELECT: partial order, O(P) on average, allocation free. Only the
+// fittest individual at index 0 and the fittest k (unordered) in front of the
+// rest are guaranteed. SimpleGenetic ranks this way unless told otherwise
+public enum PopulationSort {
+    MERGE_SORT {
+        @Override
+        void rank(List<Individual> population, int k) {
+            mergeSort(population);
+        }
+    },
+    BUBBLE_SORT {
+        @Override
+        void rank(List<Individual> population, int k) {
+            bubbleSort(population);
+        }
+    },
+    HEAP_SORT {
+        @Override
+        void rank(List<Individual> population, int k) {
+            heapSort(population);
+        }
+    },
+    QUICKSELECT {
+        @Override
+        void rank(List<Individual> population, int k) {
+            quickselect(population, k);
+        }
+    };
+
+    // Order the population so that index 0 holds the fittest individual and
+    // indexes [0, k) hold the k fittest ones
+    abstract void rank(List<Individual> population, int k);
+
+    private static void swap(List<Individual> population, int i, int j) {
+        Individual temp = population.get(i);
+        population.set(i, population.get(j));
+        population.set(j, temp);
+    }
+
+    // Time Complexity: O(P^2)
+    // Space Complexity: O(1)
+    // Bubble Sort implmentation to sort a List<Inidividual> dtype base on the
+    // Individual.fitness
+    private static void bubbleSort(List<Individual> population) {
+        int n = population.size();
+        boolean swapped;
+        for (int i = 0; i < n - 1; i++) {
+            swapped = false;
+            for (int j = 0; j < n - i - 1; j++) {
+                if (population.get(j).fitness > population.get(j + 1).fitness) {
+                    swap(population, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped)
+                break;
+        }
+    }
+
+    // Time Complexity: O(P * log(P))
+    // Space Complexity: O(P)
+    // Merge Sort Implementation to sort the List<Individual> population
+    private static void mergeSort(List<Individual> population) {
+        if (population.size() > 1) {
+            int n = population.size();
+            int middle = n / 2;
+
+            // Create 2 zeros sub population lists of individual from the population list
+            List<Individual> SubPopulation1 = new ArrayList<Individual>(middle);
+            List<Individual> SubPopulation2 = new ArrayList<Individual>(n - middle);
+
+            // Append the half list to SubPop1 and remains to SubPop2
+            for (int i = 0; i < middle; i++) {
+                SubPopulation1.add(population.get(i));
+            }
+
+            for (int i = middle; i < n; i++) {
+                SubPopulation2.add(population.get(i));
+            }
+
+            // Apply divide and conquer paradigm, recursively merge sort 2 sub lists
+            mergeSort(SubPopulation1);
+            mergeSort(SubPopulation2);
+
+            // Merge the 2 sorted SubPopulation1 and SubPopulation2 into 1 sorted list
+            merge(SubPopulation1, SubPopulation2, population);
+        }
+    }
+
+    // Support Method for mergeSort: merge(sub1, sub2, dest) - List<Individual> dtype
+    private static void merge(List<Individual> sub1, List<Individual> sub2, List<Individual> dest) {
+        int p1 = 0, p2 = 0, pDest = 0;
+        while (p1 < sub1.size() && p2 < sub2.size()) {
+            if (sub1.get(p1).fitness <= sub2.get(p2).fitness) {
+                dest.set(pDest, sub1.get(p1));
+                p1++;
+            } else {
+                dest.set(pDest, sub2.get(p2));
+                p2++;
+            }
+            pDest++;
+        }
+
+        while (p1 < sub1.size()) {
+            dest.set(pDest++, sub1.get(p1++));
+        }
+
+        while (p2 < sub2.size()) {
+            dest.set(pDest++, sub2.get(p2++));
+        }
+    }
+
+    // Time Complexity: O(P * log(P))
+    // Space Complexity: O(1)
+    // In-place heap sort: build a max-heap on fitness, then repeatedly move the
+    // root (worst individual) behind the shrinking heap
+    private static void heapSort(List<Individual> population) {
+        int n = population.size();
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(population, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(population, 0, end);
+            siftDown(population, 0, end);
+        }
+    }
+
+    private static void siftDown(List<Individual> population, int i, int size) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && population.get(left).fitness > population.get(largest).fitness) {
+                largest = left;
+            }
+            if (right < size && population.get(right).fitness > population.get(largest).fitness) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(population, i, largest);
+            i = largest;
+        }
+    }
+
+    // Time Complexity: O(P) on average
+    // Space Complexity: O(1)
+    // Quickselect around index k with a three-way partition (fitness values are
+    // small integers with many ties, which would make a two-way partition
+    // quadratic). Afterwards [0, k) <= population[k] <= [k + 1, n), then the
+    // fittest of the front part is swapped to index 0. Also used on its own by
+    // IslandGenetic to pick the k best and the k worst individuals
+    static void quickselect(List<Individual> population, int k) {
+        int n = population.size();
+        if (n < 2) {
+            return;
+        }
+        k = Math.min(Math.max(k, 1), n - 1);
+        int low = 0;
+        int high = n - 1;
+        while (low < high) {
+            int pivot = medianOfThree(population, low, (low + high) >>> 1, high);
+            // Dutch national flag: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int fitness = population.get(i).fitness;
+                if (fitness < pivot) {
+                    swap(population, lt++, i++);
+                } else if (fitness > pivot) {
+                    swap(population, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                break;
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < k; i++) {
+            if (population.get(i).fitness < population.get(best).fitness) {
+                best = i;
+            }
+        }
+        swap(population, 0, best);
+    }
+
+    private static int medianOfThree(List<Individual> population, int a, int b, int c) {
+        int x = population.get(a).fitness;
+        int y = population.get(b).fitness;
+        int z = population.get(c).fitness;
+        return Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+    }
+}
@@ -0,0 +1,299 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import structures.ArrayList;
+import structures.BoardGeometry;
+import structures.List;
+
+// Portfolio solver: races several strategies on the same puzzle.
+// Every strategy solves its own copy of the puzzle on a pool thread, under its
+// own fork of the caller's context. The first answer that is a complete, valid
+// board keeping all the givens wins; the race context is then cancelled, which
+// stops the losers at their next checkpoint. Losers are not waited for, so the
+// latency of a solve is that of the fastest strategy on that board.
+// An answer that fails verification (e.g. a genetic solver's best-effort
+// board) or an exception does not end the race, the remaining strategies keep
+// going until one of them succeeds or all have finished.
+//
+// Solvers are not thread-safe, so each strategy is a factory. Instances are
+// kept in a per-strategy idle queue and reused by later races once their
+// previous run has stopped, rather than constructed for every puzzle.
+//
+// Wins are counted per tier, set with setTier() before solving a batch, so a
+// benchmark shows which strategy is fastest on which kind of board.
+public class PortfolioSolver implements RMIT_Sudoku_Solver {
+    public static final String DEFAULT_TIER = "all";
+
+    private final List<Strategy> strategies = new ArrayList<>();
+    private final List<TierStatistics> tiers = new ArrayList<>();
+    private final ExecutorService pool = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "portfolio-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private String tier = DEFAULT_TIER;
+    private String lastWinner = null;
+
+    // Constructor - Backtracking, ConstraintSatisfaction and SimpleGenetic
+    public PortfolioSolver() {
+        this(true);
+    }
+
+    // Constructor - with includeDefaults false the portfolio starts empty and
+    // strategies are added with addStrategy()
+    public PortfolioSolver(boolean includeDefaults) {
+        if (includeDefaults) {
+            addStrategy("Backtracking", Backtracking::new);
+            addStrategy("ConstraintSatisfaction", ConstraintSatisfaction::new);
+            addStrategy("SimpleGenetic", () -> new SimpleGenetic(500, 0.06, 2000, PopulationSort.QUICKSELECT,
+                    System.nanoTime(), false, false));
+        }
+    }
+
+    // Add a strategy to the race, returns this solver
+    public PortfolioSolver addStrategy(String name, Supplier<RMIT_Sudoku_Solver> factory) {
+        for (int i = 0; i < strategies.size(); i++) {
+            if (strategies.get(i).name.equals(name)) {
+                throw new IllegalArgumentException("Strategy " + name + " is already in the portfolio.");
+            }
+        }
+        strategies.add(new Strategy(name, factory));
+        return this;
+    }
+
+    // Tier under which the following solves are counted
+    public void setTier(String tier) {
+        this.tier = tier;
+    }
+
+    // Name of the strategy that won the last race, null if nobody won
+    public String getLastWinner() {
+        return lastWinner;
+    }
+
+    // Time Complexity: that of the fastest strategy on this puzzle
+    // Space Complexity: O(S) puzzle copies for S strategies
+    @Override
+    public int[][] solve(int[][] puzzle, SolveContext context) {
+        if (strategies.size() == 0) {
+            throw new IllegalStateException("The portfolio has no strategies.");
+        }
+        if (!isValidBoard(puzzle)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+
+        TierStatistics statistics = statisticsFor(tier);
+        statistics.races++;
+        lastWinner = null;
+
+        SolveContext raceContext = context.fork();
+        ExecutorCompletionService<Entry> race = new ExecutorCompletionService<>(pool);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < strategies.size(); i++) {
+            Strategy strategy = strategies.get(i);
+            int index = i;
+            SolveContext entrantContext = raceContext.fork();
+            // Copied here, not on the pool thread: the losers may still be
+            // starting after solve() has returned and the caller reuses puzzle
+            int[][] entrantPuzzle = copy(puzzle);
+            race.submit(() -> strategy.run(index, entrantPuzzle, entrantContext));
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (int finished = 0; finished < strategies.size(); finished++) {
+                Entry entry = race.take().get();
+                if (entry.solution != null && isSolutionOf(entry.solution, puzzle)) {
+                    raceContext.cancel();
+                    lastWinner = strategies.get(entry.index).name;
+                    statistics.wins[entry.index]++;
+                    statistics.winNanos[entry.index] += System.nanoTime() - startTime;
+                    context.getStats().add(entry.stats); // the search counters of the winner
+                    return entry.solution;
+                }
+                if (entry.error != null && !(entry.error instanceof SolveCancelledException)) {
+                    failure = entry.error;
+                }
+            }
+        } catch (InterruptedException e) {
+            raceContext.cancel();
+            Thread.currentThread().interrupt();
+            throw new SolveCancelledException();
+        } catch (ExecutionException e) {
+            raceContext.cancel();
+            throw new RuntimeException("Portfolio strategy failed unexpectedly.", e.getCause());
+        }
+
+        statistics.unsolved++;
+        context.check(); // the caller's own timeout or cancellation
+        if (failure instanceof SolveTimeoutException) {
+            throw failure;
+        }
+        throw new RuntimeException("Portfolio failed to solve the puzzle.");
+    }
+
+    // Time Complexity: O(n^2)
+    // Complete, no conflicts, and every given kept in place
+    private boolean isSolutionOf(int[][] solution, int[][] puzzle) {
+        if (solution.length != puzzle.length) {
+            return false;
+        }
+        for (int row = 0; row < puzzle.length; row++) {
+            if (solution[row].length != puzzle.length) {
+                return false;
+            }
+            for (int column = 0; column < puzzle.length; column++) {
+                int value = solution[row][column];
+                if (value < 1 || value > puzzle.length) {
+                    return false;
+                }
+                if (puzzle[row][column] != 0 && puzzle[row][column] != value) {
+                    return false;
+                }
+            }
+        }
+        return isValidBoard(solution);
+    }
+
+    private TierStatistics statisticsFor(String name) {
+        for (int i = 0; i < tiers.size(); i++) {
+            if (tiers.get(i).name.equals(name)) {
+                return tiers.get(i).resize(strategies.size());
+            }
+        }
+        TierStatistics statistics = new TierStatistics(name, strategies.size());
+        tiers.add(statistics);
+        return statistics;
+    }
+
+    // Print, per tier, how often each strategy won and its average winning time
+    public void printStatistics() {
+        for (int t = 0; t < tiers.size(); t++) {
+            TierStatistics statistics = tiers.get(t);
+            System.out.printf("%s: %d races, %d unsolved%n", statistics.name, statistics.races, statistics.unsolved);
+            for (int i = 0; i < strategies.size() && i < statistics.wins.length; i++) {
+                int wins = statistics.wins[i];
+                double avgMs = wins > 0 ? statistics.winNanos[i] / 1_000_000.0 / wins : 0;
+                System.out.printf("  %-24s %3d wins (%5.1f%%), Avg Winning Time: %.4f ms%n",
+                        strategies.get(i).name, wins,
+                        statistics.races > 0 ? 100.0 * wins / statistics.races : 0, avgMs);
+            }
+        }
+    }
+
+    // Number of races the strategy won in the tier
+    public int getWins(String tierName, String strategyName) {
+        for (int t = 0; t < tiers.size(); t++) {
+            TierStatistics statistics = tiers.get(t);
+            if (statistics.name.equals(tierName)) {
+                for (int i = 0; i < strategies.size() && i < statistics.wins.length; i++) {
+                    if (strategies.get(i).name.equals(strategyName)) {
+                        return statistics.wins[i];
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    // Stop the pool threads once they are idle
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Time Complexity: O(N^2)
+    // Any supported board size, see BoardGeometry.isValidBoard
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.isValidBoard(board);
+    }
+
+    private static int[][] copy(int[][] board) {
+        int[][] copy = new int[board.length][];
+        for (int i = 0; i < board.length; i++) {
+            copy[i] = Arrays.copyOf(board[i], board[i].length);
+        }
+        return copy;
+    }
+
+    // One racing strategy, with the idle instances left over from earlier races
+    private static class Strategy {
+        final String name;
+        final Supplier<RMIT_Sudoku_Solver> factory;
+        final ConcurrentLinkedQueue<RMIT_Sudoku_Solver> idle = new ConcurrentLinkedQueue<>();
+
+        Strategy(String name, Supplier<RMIT_Sudoku_Solver> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        // Runs on a pool thread on its own copy of the puzzle: never throws, the
+        // outcome is in the entry
+        Entry run(int index, int[][] puzzle, SolveContext context) {
+            RMIT_Sudoku_Solver solver = idle.poll();
+            if (solver == null) {
+                solver = factory.get();
+            }
+            try {
+                return new Entry(index, solver.solve(puzzle, context), null, context.getStats().copy());
+            } catch (RuntimeException e) {
+                return new Entry(index, null, e, context.getStats().copy());
+            } finally {
+                idle.offer(solver);
+            }
+        }
+    }
+
+    // Outcome of one strategy in one race
+    private static class Entry {
+        final int index;
+        final int[][] solution;
+        final RuntimeException error;
+        final SolveStats stats;
+
+        Entry(int index, int[][] solution, RuntimeException error, SolveStats stats) {
+            this.index = index;
+            this.solution = solution;
+            this.error = error;
+            this.stats = stats;
+        }
+    }
+
+    // Races and wins of every strategy in one tier
+    private static class TierStatistics {
+        final String name;
+        int races = 0;
+        int unsolved = 0;
+        int[] wins;
+        long[] winNanos;
+
+        TierStatistics(String name, int strategyCount) {
+            this.name = name;
+            this.wins = new int[strategyCount];
+            this.winNanos = new long[strategyCount];
+        }
+
+        // Strategies added after the tier was first seen start at zero wins
+        TierStatistics resize(int strategyCount) {
+            if (wins.length < strategyCount) {
+                wins = Arrays.copyOf(wins, strategyCount);
+                winNanos = Arrays.copyOf(winNanos, strategyCount);
+            }
+            return this;
+        }
+    }
+}
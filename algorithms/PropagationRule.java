@@ -0,0 +1,13 @@
+package algorithms;
+
+// A single deduction technique run by the ConstraintPropagator.
+// apply() performs one pass of the rule over the whole board and returns the
+// number of deductions made (placements or candidate eliminations), 0 when
+// nothing changed, or CONTRADICTION when the board can no longer be solved.
+public interface PropagationRule {
+    int CONTRADICTION = -1;
+
+    String name();
+
+    int apply(BitmaskEngine engine);
+}
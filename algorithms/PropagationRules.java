@@ -0,0 +1,323 @@
+package algorithms;
+
+// Standard Sudoku deduction rules used by the ConstraintPropagator.
+// All rules are stateless, so the shared instances below can be used from any
+// number of propagators and threads.
+public final class PropagationRules {
+    public static final PropagationRule NAKED_SINGLES = new NakedSingles();
+    public static final PropagationRule HIDDEN_SINGLES = new HiddenSingles();
+    public static final PropagationRule NAKED_PAIRS = new NakedPairs();
+    public static final PropagationRule HIDDEN_PAIRS = new HiddenPairs();
+    public static final PropagationRule POINTING_CLAIMING = new PointingClaiming();
+    public static final PropagationRule X_WING = new XWing();
+
+    private PropagationRules() {
+    }
+
+    // Naked single: an empty cell with exactly one candidate must take it
+    // Time Complexity: O(N^2)
+    private static final class NakedSingles implements PropagationRule {
+        @Override
+        public String name() {
+            return "Naked Single";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int placed = 0;
+            for (int cell = 0; cell < engine.cellCount; cell++) {
+                if (engine.cells[cell] != 0) {
+                    continue;
+                }
+                int candidates = engine.candidates(cell);
+                if (candidates == 0) {
+                    return CONTRADICTION;
+                }
+                if ((candidates & (candidates - 1)) == 0) {
+                    engine.assign(cell, BitmaskEngine.lowestDigit(candidates));
+                    placed++;
+                }
+            }
+            return placed;
+        }
+    }
+
+    // Hidden single: a digit that fits in only one cell of a unit goes there
+    // Time Complexity: O(3N * N)
+    private static final class HiddenSingles implements PropagationRule {
+        @Override
+        public String name() {
+            return "Hidden Single";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int placed = 0;
+            for (int[] unit : engine.units) {
+                int placedDigits = 0;
+                int once = 0;
+                int twice = 0;
+                for (int cell : unit) {
+                    if (engine.cells[cell] != 0) {
+                        placedDigits |= BitmaskEngine.bitOf(engine.cells[cell]);
+                    } else {
+                        int candidates = engine.candidates(cell);
+                        twice |= once & candidates;
+                        once |= candidates;
+                    }
+                }
+
+                // A digit that is neither placed nor possible anywhere in the unit
+                if ((placedDigits | once) != engine.allDigits) {
+                    return CONTRADICTION;
+                }
+
+                int singles = once & ~twice;
+                while (singles != 0) {
+                    int bit = singles & -singles;
+                    singles &= singles - 1;
+                    for (int cell : unit) {
+                        if (engine.cells[cell] == 0 && (engine.candidates(cell) & bit) != 0) {
+                            engine.assign(cell, BitmaskEngine.lowestDigit(bit));
+                            placed++;
+                            break;
+                        }
+                    }
+                }
+            }
+            return placed;
+        }
+    }
+
+    // Naked pair: two cells of a unit sharing the same two candidates remove
+    // those candidates from every other cell of the unit
+    // Time Complexity: O(3N * N^2)
+    private static final class NakedPairs implements PropagationRule {
+        @Override
+        public String name() {
+            return "Naked Pair";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int eliminated = 0;
+            for (int[] unit : engine.units) {
+                for (int i = 0; i < engine.size; i++) {
+                    int first = unit[i];
+                    if (engine.cells[first] != 0) {
+                        continue;
+                    }
+                    int pair = engine.candidates(first);
+                    if (Integer.bitCount(pair) != 2) {
+                        continue;
+                    }
+                    for (int j = i + 1; j < engine.size; j++) {
+                        int second = unit[j];
+                        if (engine.cells[second] != 0 || engine.candidates(second) != pair) {
+                            continue;
+                        }
+                        for (int cell : unit) {
+                            if (cell != first && cell != second && engine.cells[cell] == 0
+                                    && engine.eliminate(cell, pair)) {
+                                eliminated++;
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+            return eliminated;
+        }
+    }
+
+    // Hidden pair: two digits confined to the same two cells of a unit remove
+    // every other candidate from those two cells
+    // Time Complexity: O(3N * N^2)
+    private static final class HiddenPairs implements PropagationRule {
+        @Override
+        public String name() {
+            return "Hidden Pair";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int eliminated = 0;
+            int[] positions = engine.scratch;
+            for (int[] unit : engine.units) {
+                // positions[d] = mask of unit slots where digit d+1 is still possible
+                for (int d = 0; d < engine.size; d++) {
+                    positions[d] = 0;
+                }
+                for (int i = 0; i < engine.size; i++) {
+                    if (engine.cells[unit[i]] == 0) {
+                        int candidates = engine.candidates(unit[i]);
+                        while (candidates != 0) {
+                            positions[Integer.numberOfTrailingZeros(candidates)] |= 1 << i;
+                            candidates &= candidates - 1;
+                        }
+                    }
+                }
+
+                for (int d1 = 0; d1 < engine.size; d1++) {
+                    if (Integer.bitCount(positions[d1]) != 2) {
+                        continue;
+                    }
+                    for (int d2 = d1 + 1; d2 < engine.size; d2++) {
+                        if (positions[d2] != positions[d1]) {
+                            continue;
+                        }
+                        int keep = (1 << d1) | (1 << d2);
+                        int slots = positions[d1];
+                        while (slots != 0) {
+                            int cell = unit[Integer.numberOfTrailingZeros(slots)];
+                            slots &= slots - 1;
+                            if (engine.eliminate(cell, ~keep & engine.allDigits)) {
+                                eliminated++;
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+            return eliminated;
+        }
+    }
+
+    // Pointing: a digit confined to one row/column inside a box is removed from
+    // the rest of that row/column. Claiming: a digit confined to one box inside a
+    // row/column is removed from the rest of that box.
+    // Time Complexity: O(3N * N * N)
+    private static final class PointingClaiming implements PropagationRule {
+        @Override
+        public String name() {
+            return "Pointing/Claiming";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int eliminated = 0;
+            for (int u = 0; u < engine.units.length; u++) {
+                int[] unit = engine.units[u];
+                boolean isBox = u >= 2 * engine.size;
+                for (int digit = 1; digit <= engine.size; digit++) {
+                    int bit = BitmaskEngine.bitOf(digit);
+                    int sameRow = -1;
+                    int sameCol = -1;
+                    int sameBox = -1;
+                    int count = 0;
+                    for (int cell : unit) {
+                        if (engine.cells[cell] != 0 || (engine.candidates(cell) & bit) == 0) {
+                            continue;
+                        }
+                        int row = engine.rowOf[cell];
+                        int col = engine.colOf[cell];
+                        int box = engine.boxOf[cell];
+                        sameRow = count == 0 || sameRow == row ? row : -2;
+                        sameCol = count == 0 || sameCol == col ? col : -2;
+                        sameBox = count == 0 || sameBox == box ? box : -2;
+                        count++;
+                    }
+                    if (count < 2) {
+                        continue; // placed, impossible, or a hidden single
+                    }
+
+                    if (isBox) {
+                        if (sameRow >= 0) {
+                            eliminated += eliminateOutside(engine, engine.units[sameRow], u - 2 * engine.size,
+                                    bit, true);
+                        }
+                        if (sameCol >= 0) {
+                            eliminated += eliminateOutside(engine, engine.units[engine.size + sameCol],
+                                    u - 2 * engine.size, bit, true);
+                        }
+                    } else if (sameBox >= 0) {
+                        eliminated += eliminateOutside(engine, engine.units[2 * engine.size + sameBox], u, bit,
+                                false);
+                    }
+                }
+            }
+            return eliminated;
+        }
+
+        // Remove bit from every empty cell of target that is not part of the source
+        // unit (a box index when sourceIsBox, otherwise a row/column unit index)
+        private static int eliminateOutside(BitmaskEngine engine, int[] target, int source, int bit,
+                boolean sourceIsBox) {
+            int eliminated = 0;
+            for (int cell : target) {
+                boolean inSource = sourceIsBox
+                        ? engine.boxOf[cell] == source
+                        : source < engine.size ? engine.rowOf[cell] == source
+                                : engine.colOf[cell] == source - engine.size;
+                if (!inSource && engine.cells[cell] == 0 && engine.eliminate(cell, bit)) {
+                    eliminated++;
+                }
+            }
+            return eliminated;
+        }
+    }
+
+    // X-Wing: a digit whose candidates in two rows lie in the same two columns
+    // must take one of those columns in each row, so it is removed from the rest
+    // of both columns (and the same with rows and columns swapped)
+    // Time Complexity: O(N * (N^2 + N^2)) for each orientation
+    private static final class XWing implements PropagationRule {
+        @Override
+        public String name() {
+            return "X-Wing";
+        }
+
+        @Override
+        public int apply(BitmaskEngine engine) {
+            int eliminated = 0;
+            for (int digit = 1; digit <= engine.size; digit++) {
+                int bit = BitmaskEngine.bitOf(digit);
+                eliminated += fish(engine, bit, 0, engine.size);
+                eliminated += fish(engine, bit, engine.size, 0);
+            }
+            return eliminated;
+        }
+
+        // Base lines are the units from baseStart (rows or columns), cover lines
+        // the units from coverStart (the other orientation)
+        private static int fish(BitmaskEngine engine, int bit, int baseStart, int coverStart) {
+            int size = engine.size;
+            int[] positions = engine.scratch;
+            for (int line = 0; line < size; line++) {
+                int mask = 0;
+                int[] unit = engine.units[baseStart + line];
+                for (int i = 0; i < size; i++) {
+                    if (engine.cells[unit[i]] == 0 && (engine.candidates(unit[i]) & bit) != 0) {
+                        mask |= 1 << i;
+                    }
+                }
+                positions[line] = mask;
+            }
+
+            int eliminated = 0;
+            for (int first = 0; first < size; first++) {
+                if (Integer.bitCount(positions[first]) != 2) {
+                    continue;
+                }
+                for (int second = first + 1; second < size; second++) {
+                    if (positions[second] != positions[first]) {
+                        continue;
+                    }
+                    int covers = positions[first];
+                    while (covers != 0) {
+                        int[] cover = engine.units[coverStart + Integer.numberOfTrailingZeros(covers)];
+                        covers &= covers - 1;
+                        for (int line = 0; line < size; line++) {
+                            int cell = cover[line];
+                            if (line != first && line != second && engine.cells[cell] == 0
+                                    && engine.eliminate(cell, bit)) {
+                                eliminated++;
+                            }
+                        }
+                    }
+                }
+            }
+            return eliminated;
+        }
+    }
+}
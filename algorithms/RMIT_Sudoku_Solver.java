@@ -1,7 +1,61 @@
 package algorithms;
 
+// Solvers keep per-instance search state and are not thread-safe: use one
+// instance per thread (see utils.SudokuBatchSolver, which takes a factory).
 public interface RMIT_Sudoku_Solver {
-    int[][] solve(int[][] puzzle);
+    // Solve within the budget of the context, throwing SolveTimeoutException or
+    // SolveCancelledException when the search is stopped
+    int[][] solve(int[][] puzzle, SolveContext context);
 
+    // Solve with the default 2 minute budget
+    default int[][] solve(int[][] puzzle) {
+        return solve(puzzle, new SolveContext());
+    }
+
+    // Solve and return the solution with the search counters and the wall time
+    // of this solve. The counters of the context are reset first; they stay
+    // readable from context.getStats() when the solve throws, and the result
+    // keeps its own copy.
+    default SolveResult solveWithStats(int[][] puzzle, SolveContext context) {
+        SolveStats stats = context.getStats();
+        stats.reset();
+        long startTime = System.nanoTime();
+        int[][] solution;
+        try {
+            solution = solve(puzzle, context);
+        } finally {
+            stats.wallNanos = System.nanoTime() - startTime;
+        }
+        return new SolveResult(solution, stats);
+    }
+
+    default SolveResult solveWithStats(int[][] puzzle) {
+        return solveWithStats(puzzle, new SolveContext());
+    }
+
+    // Whether the board has a supported shape, values 0-N and no digit twice in
+    // a unit. Every solver delegates to structures.BoardGeometry.isValidBoard,
+    // adding its own restriction on the board size.
     boolean isValidBoard(int[][] board);
+
+    // Whether the solver accepts N x N boards with N = boxSize^2. The board
+    // size is taken from the puzzle itself (see BoardGeometry.boxSizeOf); by
+    // default a solver only handles the standard 9x9 board.
+    default boolean supportsBoxSize(int boxSize) {
+        return boxSize == 3;
+    }
+
+    // Count the solutions of a puzzle, stopping as soon as limit is reached, so
+    // countSolutions(puzzle, 2) == 1 checks uniqueness. The puzzle is not
+    // modified, and a board with conflicting givens has 0 solutions. A limit
+    // below 1 throws IllegalArgumentException (there is nothing to count to).
+    // Only exhaustive solvers can count, the default refuses.
+    default int countSolutions(int[][] puzzle, int limit, SolveContext context) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " cannot count solutions.");
+    }
+
+    default int countSolutions(int[][] puzzle, int limit) {
+        return countSolutions(puzzle, limit, new SolveContext());
+    }
 }
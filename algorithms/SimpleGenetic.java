@@ -1,8 +1,13 @@
 package algorithms;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import structures.List;
 import structures.ArrayList;
+import structures.Board;
+import structures.BoardGeometry;
 
 public class SimpleGenetic implements RMIT_Sudoku_Solver {
     // ------------------------------------------------------------------------------------------------
@@ -12,8 +17,13 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
     // Sudoku board-type properties
     // Should be constant throughout the whole program
     private static final int GRID_SIZE = 9;
-    private static final int SUBGRID_SIZE = 3;
-    private static final Random RANDOM = new Random();
+    private static final int TOURNAMENT_SIZE = 5;
+
+    // Offspring are generated in fixed-size chunks, each with its own random
+    // stream split from the solve's seed in chunk order. The streams do not
+    // depend on which thread runs a chunk, so a seed gives the same result in
+    // sequential and parallel mode
+    private static final int CHUNK_SIZE = 32;
 
     // Tunable parameters to optimize solving algorithm
     // The Complexity of this Genetic Algorithm is defined by 2 key manually-tunable
@@ -23,31 +33,94 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
     int POPULATION_SIZE = 0; // Number of solving candidates in 1 generation
     double MUTATION_RATE = 0.0; // Lower mutation for easy puzzles
     int MAX_GENERATIONS = 0; // Fewer generations needed for easy puzzles
-    String sort = "Merge Sort"; // Choose sorting algorithms
+    PopulationSort sort = PopulationSort.QUICKSELECT; // Choose how the population is ranked
+    int lastGenerations = 0; // Generations run by the last solve
+    int localSearchIndividuals = 0; // Elite individuals refined each generation, 0 to disable
+    int localSearchIterations = 0; // Annealing moves per refined individual
+    long seed; // Seed of every solve, the same seed and puzzle give the same result
+    boolean parallel = false; // Generate offspring across cores on the common pool
 
     // ------------------------------------------------------------------------------------------------
     // Data Structure: Individual class
-    // Consist of 2 properties: 2D Integer Array dtype - Sudoku board and Integer
-    // Fitness
-    private static class Individual {
-        int[][] board;
+    // Consist of 3 properties: flat Board dtype - Sudoku board, Integer Fitness and
+    // the digit count of every unit, which lets setCell update the fitness in O(1)
+    // Package-private so that IslandGenetic can run and migrate populations;
+    // an Individual is never changed once its construction and mutation are done
+    static class Individual {
+        Board board;
         int fitness;
+        // counts[unit * 10 + digit], units numbered as in Board.UNITS
+        final byte[] counts = new byte[Board.UNIT_COUNT * (GRID_SIZE + 1)];
+
+        // Takes ownership of board and randomly fills its remaining empty cells
+        public Individual(Board board, SplittableRandom random) {
+            fillRandomly(board, random);
+            this.board = board;
+            this.fitness = calculateFitness(board, counts);
+        }
 
-        public Individual(int[][] puzzle) {
-            this.board = generateRandomFilledBoard(puzzle);
-            this.fitness = calculateFitness(this.board);
+        // Time Complexity: O(1) - only the row, column and subgrid of the cell change
+        // Change one cell and update the fitness incrementally: a digit leaving a unit
+        // removes a duplicate if it appeared more than once, a digit entering a unit
+        // adds one if it was already there
+        void setCell(int cell, int value) {
+            int old = board.get(cell);
+            if (old == value) {
+                return;
+            }
+            board.set(cell, value);
+            fitness += moveDigit(Board.ROW[cell], old, value);
+            fitness += moveDigit(GRID_SIZE + Board.COL[cell], old, value);
+            fitness += moveDigit(2 * GRID_SIZE + Board.BOX[cell], old, value);
+        }
+
+        // Return the fitness change of replacing digit old by value in one unit
+        private int moveDigit(int unit, int old, int value) {
+            int base = unit * (GRID_SIZE + 1);
+            int delta = 0;
+            if (old != 0 && counts[base + old]-- > 1) {
+                delta--;
+            }
+            if (value != 0 && counts[base + value]++ > 0) {
+                delta++;
+            }
+            return delta;
         }
     }
 
     // ----------------------------------------------------------------------------------------
-    // Constructor - accepting 3 parameters to declare the SimpleGenetic object
-    public SimpleGenetic(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS, String sort) {
+    // Constructor - accepting 3 parameters to declare the SimpleGenetic object,
+    // ranked with quickselect, sequential with a random seed
+    public SimpleGenetic(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS) {
+        this(POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS, PopulationSort.QUICKSELECT);
+    }
+
+    // Constructor - also accepting how the population is ranked
+    public SimpleGenetic(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS, PopulationSort sort) {
+        this(POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS, sort, new SplittableRandom().nextLong(), false);
+    }
+
+    // Constructor - also accepting the seed of the random streams and whether to
+    // build each generation in parallel
+    public SimpleGenetic(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS, PopulationSort sort,
+            long seed, boolean parallel) {
+        this(POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS, sort, seed, parallel, true);
+    }
+
+    // Constructor - also accepting whether to print the configuration, off for
+    // instances created on demand (e.g. one per PortfolioSolver race)
+    public SimpleGenetic(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS, PopulationSort sort,
+            long seed, boolean parallel, boolean printConfig) {
         this.POPULATION_SIZE = POPULATION_SIZE;
         this.MUTATION_RATE = MUTATION_RATE;
         this.MAX_GENERATIONS = MAX_GENERATIONS;
         this.sort = sort;
+        this.seed = seed;
+        this.parallel = parallel;
 
-        printGAConfig(POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS);
+        if (printConfig) {
+            printGAConfig(POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS);
+        }
     }
 
     // --------------------------------------------------------------------
@@ -55,66 +128,63 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
     // ------------------------------------------------------------------------------------------------
     // Method 1: solve(int[][] puzzle)
     // Data Structure: 2D Integer Array
-    // Time Complexity: O(G * P(log(P))) for Merge Sort or O(G * P^2) for Bubble Sort
+    // Time Complexity: O(G * P) with Quickselect, O(G * P(log(P))) for Merge/Heap Sort or O(G * P^2) for Bubble Sort
     // Space Complexity: O(P)
     // Main method of the program: Accept 2D Integer Array Sudoku Puzzle -> Solve it
     // -> Return the solution
     @Override
-    public int[][] solve(int[][] puzzle) {
+    public int[][] solve(int[][] puzzle, SolveContext context) {
         // Throw Exception to catch error of input puzzle
         if (!isValidBoard(puzzle)) {
             throw new IllegalArgumentException("Invalid puzzle board input.");
         }
 
-        long startTime = System.currentTimeMillis();
-        return Genetic(puzzle, startTime, false);
+        return Genetic(puzzle, context, false);
     }
 
-    // Support Method 1: Genetic(int[][] board, long startTime)
+    // Support Method 1: Genetic(int[][] board, SolveContext context)
     // Data Structure: 2D Integer Array
-    // Time Complexity: O(G * P(log(P))) for Merge Sort or O(G * P^2) for Bubble Sort
+    // Time Complexity: O(G * P) with Quickselect, O(G * P(log(P))) for Merge/Heap Sort or O(G * P^2) for Bubble Sort
     // Space Complexity: O(P)
     // Perform full Simple Genetic algorithm on the Sudoku puzzle, also capture timeout 
-    public int[][] Genetic(int[][] puzzle, long startTime, boolean details) {
-        List<Individual> population = initializePopulation(puzzle);
+    public int[][] Genetic(int[][] grid, SolveContext context, boolean details) {
+        Board puzzle = Board.fromGrid(grid);
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Individual> population = initializePopulation(puzzle, random);
+        lastGenerations = 0;
+        SolveStats stats = context.getStats();
+        stats.evaluated(POPULATION_SIZE);
 
         for (int generation = 0; generation < MAX_GENERATIONS; generation++) {
-            // Raise exception for program timeout
-            if (System.currentTimeMillis() - startTime > 120000) {
-                throw new RuntimeException("Genetic Algorithm exceeded time limit of 2 minutes");
-            }
+            // Raise exception for program timeout or cancellation, once per generation
+            context.check();
+            stats.generation();
 
-            if (sort == "Merge Sort") {
-                MergeSortPopulation(population);
-            } // Use scratch sort
-            else {
-                BubbleSortPopulation(population);
-            }
+            rankPopulation(population);
+            lastGenerations = generation + 1;
 
             if (population.get(0).fitness == 0) {
                 if (details) {
                     System.out.println("Solution found at generation: " + generation + " \n");
-                    printBoard(population.get(0).board);
+                    population.get(0).board.print();
                 }
 
-                return population.get(0).board;
+                return population.get(0).board.toGrid();
             }
 
-            List<Individual> nextGeneration = new ArrayList<>();
-            // Keep the fittest (replacement for subList)
-            for (int i = 0; i < POPULATION_SIZE / 2; i++) {
-                nextGeneration.add(population.get(i));
-            }
-
-            while (nextGeneration.size() < POPULATION_SIZE) {
-                Individual parent1 = tournamentSelection(population);
-                Individual parent2 = tournamentSelection(population);
-                int[][] childBoard = crossover(parent1.board, parent2.board, puzzle);
-                mutate(childBoard, puzzle);
-                nextGeneration.add(new Individual(childBoard));
+            if (localSearchIndividuals > 0) {
+                Individual refined = refineElite(population, puzzle, random);
+                if (refined != null) {
+                    if (details) {
+                        System.out.println("Solution found by local search at generation: " + generation + " \n");
+                        refined.board.print();
+                    }
+                    return refined.board.toGrid();
+                }
             }
 
-            population = nextGeneration;
+            population = nextGeneration(population, puzzle, random);
+            stats.evaluated(POPULATION_SIZE - POPULATION_SIZE / 2); // offspring, the elite is kept
             if (generation % generation_display == 0) {
                 if (details) {
                     System.out.println("Generation " + generation + ", Best Fitness: " + population.get(0).fitness);
@@ -125,215 +195,257 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
         if (details) {
             System.out.println("Maximum Generation reaches. Best Fitness: " + population.get(0).fitness);
             System.out.println("Solution has " + population.get(0).fitness + " errors");
-            printBoard(population.get(0).board);
+            population.get(0).board.print();
         }
 
-        return population.get(0).board;
+        return population.get(0).board.toGrid();
     }
 
-    // ---------------------------------------------------------------------------
-    // Support Method 1: BubbleSortPopulation(List<Individual> population)
-    // Data Structure: void
-    // Time Complexity: O(P^2)
-    // Space Complexity: O(1)
-    // Bubble Sort implmentation to sort a List<Inidividual> dtype base on the
-    // Individual.fitness
-    private void BubbleSortPopulation(List<Individual> population) {
-        int n = population.size();
-        boolean swapped;
-        for (int i = 0; i < n - 1; i++) {
-            swapped = false;
-            for (int j = 0; j < n - i - 1; j++) {
-                if (population.get(j).fitness > population.get(j + 1).fitness) {
-                    Individual temp = population.get(j);
-                    population.set(j, population.get(j + 1));
-                    population.set(j + 1, temp);
-                    swapped = true;
-                }
-            }
-            if (!swapped)
-                break;
-        }
+    // Support Method 1: rankPopulation(List<Individual> population)
+    // Rank the population by fitness with the configured strategy: the fittest
+    // individual ends up at index 0 and the fittest half (the elite kept by
+    // nextGeneration) in the first half. Full sorts also order the rest
+    void rankPopulation(List<Individual> population) {
+        sort.rank(population, POPULATION_SIZE / 2);
     }
 
-    // ----------------------------------------------------------------------------------
-    // Support Method 1: MergeSortPopulation(List<Inidividual> population)
-    // Data Structure: void
-    // Time Complexity: O(P * log(P))
-    // Space Complexity: O(P)
-    // Merge Sort Implementation to sort the List<Individual> population
-    private void MergeSortPopulation(List<Individual> population) {
-        if (population.size() > 1) {
-            int n = population.size();
-            int middle = n / 2;
-
-            // Create 2 zeros sub population lists of individual from the population list
-            List<Individual> SubPopulation1 = new ArrayList<Individual>();
-            List<Individual> SubPopulation2 = new ArrayList<Individual>();
-
-            // Append the half list to SubPop1 and remains to SubPop2
-            for (int i = 0; i < middle; i++) {
-                SubPopulation1.add(population.get(i));
-            }
-
-            for (int i = middle; i < n; i++) {
-                SubPopulation2.add(population.get(i));
-            }
-
-            // Apply divide and conquer paradigm, recursively merge sort 2 sub lists
-            MergeSortPopulation(SubPopulation1);
-            MergeSortPopulation(SubPopulation2);
-
-            // Merge the 2 sorted SubPopulation1 and SubPopulation2 into 1 sorted list
-            MergePopulation(SubPopulation1, SubPopulation2, population);
+    // Enable the memetic step: every generation, the first individuals of the
+    // ranked population are refined by SimulatedAnnealing.refine
+    public void enableLocalSearch(int individuals, int iterations) {
+        if (individuals < 0 || iterations < 0) {
+            throw new IllegalArgumentException("Local search budget cannot be negative.");
         }
+        this.localSearchIndividuals = individuals;
+        this.localSearchIterations = iterations;
     }
 
-    // Support Method for MergeSortPopulation: MergePopulation(sub1, sub2, dest) -
-    // List<Individual> dtype
-    private void MergePopulation(List<Individual> sub1, List<Individual> sub2, List<Individual> dest) {
-        int p1 = 0, p2 = 0, pDest = 0;
-        while (p1 < sub1.size() && p2 < sub2.size()) {
-            if (sub1.get(p1).fitness <= sub2.get(p2).fitness) {
-                dest.set(pDest, sub1.get(p1));
-                p1++;
-            } else {
-                dest.set(pDest, sub2.get(p2));
-                p2++;
+    // Support Method 1: refineElite(List<Individual> population, Board puzzle,
+    // SplittableRandom random)
+    // Time Complexity: O(L * I) for L refined individuals and I iterations each
+    // Replace the first localSearchIndividuals individuals by their refined
+    // versions, return one that solves the puzzle or null
+    Individual refineElite(List<Individual> population, Board puzzle, SplittableRandom random) {
+        int count = Math.min(localSearchIndividuals, population.size());
+        for (int i = 0; i < count; i++) {
+            Individual refined = SimulatedAnnealing.refine(population.get(i), puzzle, localSearchIterations, random);
+            population.set(i, refined);
+            if (refined.fitness == 0) {
+                return refined;
             }
-            pDest++;
         }
+        return null;
+    }
 
-        while (p1 < sub1.size()) {
-            dest.set(pDest++, sub1.get(p1++));
-        }
+    // Number of generations the last solve ran, to compare per-generation cost
+    public int getGenerationCount() {
+        return lastGenerations;
+    }
 
-        while (p2 < sub2.size()) {
-            dest.set(pDest++, sub2.get(p2++));
+    // Support Method 1: nextGeneration(List<Individual> population, Board puzzle,
+    // SplittableRandom random)
+    // Data Structure: List<Individual>
+    // Time Complexity: O(P)
+    // Space Complexity: O(P)
+    // One generation step on a sorted population: keep the fittest half, fill the
+    // rest with offspring of tournament-selected parents
+    List<Individual> nextGeneration(List<Individual> population, Board puzzle, SplittableRandom random) {
+        Individual[] nextGeneration = new Individual[POPULATION_SIZE];
+        // Keep the fittest (replacement for subList)
+        for (int i = 0; i < POPULATION_SIZE / 2; i++) {
+            nextGeneration[i] = population.get(i);
         }
+
+        // Fill the rest with offspring, the parents are only read
+        generate(nextGeneration, POPULATION_SIZE / 2, random, chunkRandom -> {
+            Individual parent1 = tournamentSelection(population, chunkRandom);
+            Individual parent2 = tournamentSelection(population, chunkRandom);
+            Individual child = new Individual(crossover(parent1.board, parent2.board, puzzle, chunkRandom),
+                    chunkRandom);
+            mutate(child, puzzle, chunkRandom);
+            return child;
+        });
+
+        return toList(nextGeneration);
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 2: initializePopulation(int[][] puzzle)
+    // Method 2: initializePopulation(Board puzzle, SplittableRandom random)
     // Data Structure: List<Individual>
     // Time Complexity: O(P)
     // Space Compledxity: O(P)
     // Initialize the population list, where each Individual are single Sudoku board
     // and its fitness value
-    private List<Individual> initializePopulation(int[][] puzzle) {
-        List<Individual> population = new ArrayList<>();
-        for (int i = 0; i < POPULATION_SIZE; i++) {
-            population.add(new Individual(puzzle));
+    List<Individual> initializePopulation(Board puzzle, SplittableRandom random) {
+        Individual[] population = new Individual[POPULATION_SIZE];
+        generate(population, 0, random, chunkRandom -> new Individual(puzzle.copy(), chunkRandom));
+        return toList(population);
+    }
+
+    private static List<Individual> toList(Individual[] individuals) {
+        List<Individual> list = new ArrayList<>(individuals.length);
+        for (Individual individual : individuals) {
+            list.add(individual);
+        }
+        return list;
+    }
+
+    // Creates one individual from the random stream of its chunk
+    private interface IndividualFactory {
+        Individual create(SplittableRandom random);
+    }
+
+    // Time Complexity: O(n / cores) wall time in parallel mode, O(n) otherwise
+    // Fill dest[from..] with new individuals, CHUNK_SIZE at a time. The chunk
+    // streams are split from random sequentially before any chunk runs
+    private void generate(Individual[] dest, int from, SplittableRandom random, IndividualFactory factory) {
+        int chunks = (dest.length - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            chunkRandoms[c] = random.split();
+        }
+        GenerateChunks task = new GenerateChunks(dest, from, chunkRandoms, factory, 0, chunks);
+        if (parallel && chunks > 1) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    private static class GenerateChunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Individual[] dest;
+        private final int from;
+        private final SplittableRandom[] chunkRandoms;
+        private final IndividualFactory factory;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        GenerateChunks(Individual[] dest, int from, SplittableRandom[] chunkRandoms, IndividualFactory factory,
+                int firstChunk, int lastChunk) {
+            this.dest = dest;
+            this.from = from;
+            this.chunkRandoms = chunkRandoms;
+            this.factory = factory;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                SplittableRandom random = chunkRandoms[firstChunk];
+                int start = from + firstChunk * CHUNK_SIZE;
+                int end = Math.min(dest.length, start + CHUNK_SIZE);
+                for (int i = start; i < end; i++) {
+                    dest[i] = factory.create(random);
+                }
+                return;
+            }
+            if (lastChunk == firstChunk) {
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new GenerateChunks(dest, from, chunkRandoms, factory, firstChunk, middle),
+                    new GenerateChunks(dest, from, chunkRandoms, factory, middle, lastChunk));
         }
-        return population;
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 3: generateRandomFilledBoard(int[][] puzzle)
-    // Data Structure: 2D Integer Array
+    // Method 3: fillRandomly(Board board)
+    // Data Structure: void, the board is filled in place
     // Time Complexity: O(1)
     // Space Complexity: O(1)
-    // Generate the random solving filled Sudoku board, which may be incorrect or
+    // Fill every empty cell with a random value, which may be correct or
     // incorrect
-    private static int[][] generateRandomFilledBoard(int[][] puzzle) {
-        int[][] board = copyBoard(puzzle);
-        List<Integer> numbers = new ArrayList<>();
-        for (int i = 1; i <= GRID_SIZE; i++) {
-            numbers.add(i);
-        }
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (board[i][j] == 0) {
-                    List<Integer> possible = getPossibleValues(board, i, j);
-                    if (!possible.isEmpty()) {
-                        board[i][j] = possible.get(RANDOM.nextInt(possible.size()));
-                    } else {
-                        board[i][j] = numbers.get(RANDOM.nextInt(numbers.size())); // Fallback
-                    }
+    private static void fillRandomly(Board board, SplittableRandom random) {
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            if (board.get(cell) == 0) {
+                int value = randomPossibleValue(board, cell, random);
+                if (value != 0) {
+                    board.set(cell, value);
+                } else {
+                    board.set(cell, 1 + random.nextInt(GRID_SIZE)); // Fallback: any digit
                 }
             }
         }
-        return board;
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 4: tournamentSelection(List<Individual> population)
+    // Method 4: tournamentSelection(List<Individual> population, SplittableRandom
+    // random)
     // Data Structure: Individual
     // Time Complexity: O(1)
     // Space Complexity: O(1)
-    private static Individual tournamentSelection(List<Individual> population) {
-        int tournamentSize = 5;
-        List<Individual> tournament = new ArrayList<>();
-        for (int i = 0; i < tournamentSize; i++) {
-            tournament.add(population.get(RANDOM.nextInt(population.size())));
-        }
-        Individual fittest = tournament.get(0);
-        for (int i = 1; i < tournament.size(); i++) {
-            if (tournament.get(i).fitness < fittest.fitness) {
-                fittest = tournament.get(i);
+    // Draw TOURNAMENT_SIZE random individuals and keep the fittest; the winner is
+    // tracked as it is drawn, so no tournament list is built per selection
+    private static Individual tournamentSelection(List<Individual> population, SplittableRandom random) {
+        Individual fittest = population.get(random.nextInt(population.size()));
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            Individual contender = population.get(random.nextInt(population.size()));
+            if (contender.fitness < fittest.fitness) {
+                fittest = contender;
             }
         }
         return fittest;
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 5: crossover(int[][] parent1, int[][] parent2, int[][] puzzle)
-    // Data Structure: 2D Integer Array
+    // Method 5: crossover(Board parent1, Board parent2, Board puzzle,
+    // SplittableRandom random)
+    // Data Structure: Board
     // Time Complexity: O(1)
     // Space Complexity: O(1)
     // Cross over operation of GAs, combine the potential great solving traits of 2
     // parents to child solution
-    private static int[][] crossover(int[][] parent1, int[][] parent2, int[][] puzzle) {
-        int[][] child = copyBoard(puzzle);
-        Random random = new Random();
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (child[i][j] == 0) {
-                    child[i][j] = random.nextBoolean() ? parent1[i][j] : parent2[i][j];
-                }
+    private static Board crossover(Board parent1, Board parent2, Board puzzle, SplittableRandom random) {
+        Board child = puzzle.copy();
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            if (child.get(cell) == 0) {
+                child.set(cell, random.nextBoolean() ? parent1.get(cell) : parent2.get(cell));
             }
         }
         return child;
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 6: mutate(int[][] board, int[][] puzzle)
+    // Method 6: mutate(Individual individual, Board puzzle, SplittableRandom random)
     // Data Structure: dtype - void method, no dtype return
     // Time Complexity: O(1)
     // Space Complexity: O(1)
     // Given tunable parameter MUTATION_RATE, randomly fill possible value if
-    // variation of mutation is low
-    private void mutate(int[][] board, int[][] puzzle) {
-        Random random = new Random();
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (puzzle[i][j] == 0 && random.nextDouble() < MUTATION_RATE) {
-                    List<Integer> possibleValues = getPossibleValues(board, i, j);
-                    if (!possibleValues.isEmpty()) {
-                        board[i][j] = possibleValues.get(random.nextInt(possibleValues.size()));
-                    }
+    // variation of mutation is low. Fitness is kept up to date by setCell
+    private void mutate(Individual individual, Board puzzle, SplittableRandom random) {
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            if (puzzle.get(cell) == 0 && random.nextDouble() < MUTATION_RATE) {
+                int value = randomPossibleValue(individual.board, cell, random);
+                if (value != 0) {
+                    individual.setCell(cell, value);
                 }
             }
         }
     }
 
     // ------------------------------------------------------------------------------------------------
-    // Method 7: calculateFitness(int[][] board) -> fitness = 0 means correct Sudoku
-    // solution
+    // Method 7: calculateFitness(Board board, byte[] counts) -> fitness = 0 means
+    // correct Sudoku solution
     // Data Structure: dtype - integer
-    // Time Complexity: O(1)
+    // Time Complexity: O(1) - one pass over the 27 units with counting arrays
     // Space Complexity: O(1)
     // Calculate the fitness of current board solution - the violation of errors
-    // based on Sudoku rules
-    private static int calculateFitness(int[][] board) {
+    // based on Sudoku rules: every repeated digit in a row, column or subgrid counts
+    // once per extra occurrence. Also fills the per-unit digit counts used for
+    // incremental updates
+    private static int calculateFitness(Board board, byte[] counts) {
+        Arrays.fill(counts, (byte) 0);
         int conflicts = 0;
-        for (int i = 0; i < GRID_SIZE; i++) {
-            conflicts += countDuplicates(getRow(board, i));
-            conflicts += countDuplicates(getColumn(board, i));
-        }
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                conflicts += countDuplicates(getSubgrid(board, i * SUBGRID_SIZE, j * SUBGRID_SIZE));
+        for (int unit = 0; unit < Board.UNIT_COUNT; unit++) {
+            int base = unit * (GRID_SIZE + 1);
+            for (int cell : Board.UNITS[unit]) {
+                int num = board.get(cell);
+                if (num != 0 && counts[base + num]++ > 0) {
+                    conflicts++;
+                }
             }
         }
         return conflicts;
@@ -344,111 +456,26 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
     // Time Complexity: O(1)
     // Space Complexity: O(1)
 
-    // Help Method 1: countDuplicates(int[] arr)
-    // Data Structure: Integer
-    // Count any duplicate cell in the given array
-    private static int countDuplicates(int[] arr) {
-        List<Integer> seen = new ArrayList<>(); // Use your ArrayList
-        int duplicates = 0;
-        for (int num : arr) {
-            if (num != 0) {
-                boolean found = false;
-                for (int i = 0; i < seen.size(); i++) { // Iterate with index
-                    if (seen.get(i).equals(num)) { // Use .equals() for comparison
-                        found = true;
-                        break;
-                    }
-                }
-                if (found) {
-                    duplicates++;
-                }
-                seen.add(num);
-            }
+    // Helper Method 1: randomPossibleValue(Board board, int cell, SplittableRandom
+    // random)
+    // Data Structure: int bitmask
+    // Pick a random possible value for a position of the Sudoku board, the value
+    // strictly follows Sudoku rule: no peer (same row, column or subgrid) holds it.
+    // Returns 0 if every digit is taken. The value is read straight from the
+    // peer digit mask (the k-th clear bit), so nothing is allocated per cell
+    private static int randomPossibleValue(Board board, int cell, SplittableRandom random) {
+        int possible = ~board.peerDigits(cell) & Board.GEOMETRY.allDigits;
+        int count = Integer.bitCount(possible);
+        if (count == 0) {
+            return 0;
         }
-        return duplicates;
-    }
-
-    // Helper Method 2: getRow(int[][] board, int row)
-    // Data Structure: 1D Integer Array
-    // Get all the elements within the row of the board of shape (1x9, )
-    private static int[] getRow(int[][] board, int row) {
-        int[] r = new int[GRID_SIZE];
-        System.arraycopy(board[row], 0, r, 0, GRID_SIZE);
-        return r;
-    }
-
-    // Helper Method 3: getColumn(int[][] board, int col)
-    // Data Structure: 1D Integer Array
-    // Get all the elemtns within the column of the board of shape (9x1, )
-    private static int[] getColumn(int[][] board, int col) {
-        int[] column = new int[GRID_SIZE];
-        for (int i = 0; i < GRID_SIZE; i++) {
-            column[i] = board[i][col];
-        }
-        return column;
-    }
-
-    // Helper Method 4: getSubgrid(int[][] board, int startRow, int startCol)
-    // Data Structure: 1D Integer Array
-    // Get all elements within the 3x3 Subgrid of the board, order is all column 1st
-    // -> all row 2nd
-    private static int[] getSubgrid(int[][] board, int startRow, int startCol) {
-        int[] subgrid = new int[GRID_SIZE];
-        int index = 0;
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                subgrid[index++] = board[startRow + i][startCol + j];
-            }
+        for (int skip = random.nextInt(count); skip > 0; skip--) {
+            possible &= possible - 1; // drop the lowest possible digit
         }
-        return subgrid;
+        return Integer.numberOfTrailingZeros(possible) + 1;
     }
 
-    // Helper Method 5: getPossibleValues(int[][] board, int row, int col)
-    // Data Structure: List of Integer
-    // Get all possible value for each position of Sudoku board, filled value should
-    // strictly follow Sudoku rule
-    private static List<Integer> getPossibleValues(int[][] board, int row, int col) {
-        List<Integer> possibleValues = new ArrayList<>();
-        for (int num = 1; num <= GRID_SIZE; num++) {
-            if (isValidPlacement(board, num, row, col)) {
-                possibleValues.add(num);
-            }
-        }
-        return possibleValues;
-    }
-
-    // Helper Method 6: isValidPlacement(int[][] board, int num, int row, int col)
-    // Data Structure: Boolean (True or False)
-    // Check if there is only single representation of number in Sudoku rows,
-    // columns and subgrids
-    private static boolean isValidPlacement(int[][] board, int num, int row, int col) {
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (board[row][i] == num || board[i][col] == num)
-                return false;
-        }
-        int startRow = row - row % SUBGRID_SIZE;
-        int startCol = col - col % SUBGRID_SIZE;
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                if (board[startRow + i][startCol + j] == num)
-                    return false;
-            }
-        }
-        return true;
-    }
-
-    // Helper Method 7: copyBoard(int[][] source)
-    // Data Structure 1: 2D Integer Array
-    // Copy the Sudoku board to another board
-    private static int[][] copyBoard(int[][] source) {
-        int[][] destination = new int[GRID_SIZE][GRID_SIZE];
-        for (int i = 0; i < GRID_SIZE; i++) {
-            System.arraycopy(source[i], 0, destination[i], 0, GRID_SIZE);
-        }
-        return destination;
-    }
-
-    // Helper Method 8: printBoard(int[][] board)
+    // Helper Method 2: printBoard(int[][] board)
     // Data Structure: void
     // Print the board in 9x9 representation
     public static void printBoard(int[][] board) {
@@ -460,7 +487,7 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
         }
     }
 
-    // Helper Method 9: printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int
+    // Helper Method 3: printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int
     // MAX_GENERATIONS)
     public static void printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS) {
         System.out.println("\nGenetic Algorithm configurations: ");
@@ -469,57 +496,15 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
         System.out.println("Maximum generations: " + MAX_GENERATIONS + " \n");
     }
 
-    // Helper Method 10: isValidBoard(int[][] board)
-    // Check if the board is valid
+    // Helper Method 4: isValidBoard(int[][] board)
+    // Time Complexity: O(81) = O(1)
+    // The genetic encoding is built on the 9x9 structures.Board, so only 9x9 boards are valid
     @Override
     public boolean isValidBoard(int[][] board) {
-        // Check rows
-        for (int row = 0; row < 9; row++) {
-            boolean[] seen = new boolean[10];
-            for (int col = 0; col < 9; col++) {
-                int val = board[row][col];
-                if (val != 0) {
-                    if (seen[val])
-                        return false;
-                    seen[val] = true;
-                }
-            }
-        }
-
-        // Check columns
-        for (int col = 0; col < 9; col++) {
-            boolean[] seen = new boolean[10];
-            for (int row = 0; row < 9; row++) {
-                int val = board[row][col];
-                if (val != 0) {
-                    if (seen[val])
-                        return false;
-                    seen[val] = true;
-                }
-            }
-        }
-
-        // Check 3x3 boxes
-        for (int boxRow = 0; boxRow < 9; boxRow += 3) {
-            for (int boxCol = 0; boxCol < 9; boxCol += 3) {
-                boolean[] seen = new boolean[10];
-                for (int i = boxRow; i < boxRow + 3; i++) {
-                    for (int j = boxCol; j < boxCol + 3; j++) {
-                        int val = board[i][j];
-                        if (val != 0) {
-                            if (seen[val])
-                                return false;
-                            seen[val] = true;
-                        }
-                    }
-                }
-            }
-        }
-
-        return true;
+        return BoardGeometry.boxSizeOf(board) == Board.BOX_SIZE && BoardGeometry.isValidBoard(board);
     }
 
-    // Helper Method 11: SolveDetails(int[][] puzzle, boolean details)
+    // Helper Method 5: SolveDetails(int[][] puzzle, boolean details)
     // Solve but also print details of algorithm operation
     public int[][] SolveDetails(int[][] puzzle, boolean details) {
         // Throw Exception to catch error of input puzzle
@@ -527,8 +512,7 @@ public class SimpleGenetic implements RMIT_Sudoku_Solver {
             throw new IllegalArgumentException("Invalid puzzle board input.");
         }
 
-        long startTime = System.currentTimeMillis();
-        return Genetic(puzzle, startTime, details);
+        return Genetic(puzzle, new SolveContext(), details);
     }
 
 }
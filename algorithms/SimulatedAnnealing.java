@@ -0,0 +1,446 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import algorithms.SimpleGenetic.Individual;
+import structures.Board;
+import structures.BoardGeometry;
+
+// Simulated annealing local search (after Lewis, "Metaheuristics can solve
+// Sudoku puzzles", 2007).
+// Every 3x3 box is filled with a permutation of its missing digits, so boxes
+// are always valid and the cost is the number of extra digit occurrences in
+// rows and columns. A move swaps two non-given cells of one box; only two rows
+// and two columns change, so the cost delta comes from per-unit digit counts
+// in O(1). Worse moves are accepted with probability exp(-delta / T), with T
+// cooled geometrically after every chain of moves. The search reheats when the
+// best cost has not improved for REHEAT_CHAINS chains, and restarts from a new
+// random fill when a restart's iteration budget runs out.
+//
+// refine() runs the same acceptance rule on a SimpleGenetic individual, as an
+// optional memetic step (see SimpleGenetic.enableLocalSearch).
+public class SimulatedAnnealing implements RMIT_Sudoku_Solver {
+    private static final int GRID_SIZE = 9;
+    private static final double COOLING_RATE = 0.99;
+    private static final int REHEAT_CHAINS = 200;
+    private static final int TEMPERATURE_SAMPLES = 200;
+    private static final double REFINE_TEMPERATURE = 0.3;
+
+    private final long maxIterations; // Moves per restart
+    private final int maxRestarts; // Restarts after the first attempt
+    private final long seed;
+    private ConvergenceStats lastStats = new ConvergenceStats();
+
+    // Working state of the current solve
+    private final Board board = new Board();
+    private final Board best = new Board();
+    private final int[] counts = new int[2 * GRID_SIZE * (GRID_SIZE + 1)]; // rows, then columns
+    private int cost;
+
+    public SimulatedAnnealing() {
+        this(200_000, 10, new SplittableRandom().nextLong());
+    }
+
+    public SimulatedAnnealing(long maxIterations, int maxRestarts, long seed) {
+        if (maxIterations < 1 || maxRestarts < 0) {
+            throw new IllegalArgumentException("Iteration budget must be positive and restarts non-negative.");
+        }
+        this.maxIterations = maxIterations;
+        this.maxRestarts = maxRestarts;
+        this.seed = seed;
+    }
+
+    // Time Complexity: O((R + 1) * I) moves of O(1) each
+    // Space Complexity: O(1)
+    @Override
+    public int[][] solve(int[][] grid, SolveContext context) {
+        if (!isValidBoard(grid)) {
+            throw new IllegalArgumentException("Invalid puzzle board input.");
+        }
+
+        long startTime = System.nanoTime();
+        ConvergenceStats stats = new ConvergenceStats();
+        lastStats = stats;
+        SolveStats counters = context.getStats();
+        Board puzzle = Board.fromGrid(grid);
+        int[][] freeCells = freeCellsByBox(puzzle);
+        SplittableRandom random = new SplittableRandom(seed);
+        int bestCost = Integer.MAX_VALUE;
+
+        for (int restart = 0; restart <= maxRestarts && bestCost > 0; restart++) {
+            stats.restarts = restart;
+            fillBoxes(puzzle, freeCells, random);
+            if (cost < bestCost) {
+                bestCost = cost;
+                board.copyInto(best);
+            }
+            if (!hasMove(freeCells)) {
+                break; // every box is forced, nothing to search
+            }
+
+            double initialTemperature = initialTemperature(freeCells, random);
+            if (cost < bestCost) {
+                bestCost = cost;
+                board.copyInto(best);
+                stats.nanosToBest = System.nanoTime() - startTime;
+            }
+            double temperature = initialTemperature;
+            int chainLength = chainLength(freeCells);
+            int restartBest = cost;
+            int chainsWithoutImprovement = 0;
+            stats.initialTemperature = initialTemperature;
+
+            for (long iteration = 0; iteration < maxIterations && cost > 0; iteration++) {
+                context.checkpoint();
+                stats.iterations++;
+                counters.evaluated(1); // every move evaluates a cost delta
+
+                int delta = randomSwap(freeCells, random);
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    stats.acceptedMoves++;
+                    if (delta > 0) {
+                        stats.uphillMoves++;
+                    }
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        board.copyInto(best);
+                        stats.nanosToBest = System.nanoTime() - startTime;
+                    }
+                } else {
+                    undoSwap();
+                }
+
+                if ((iteration + 1) % chainLength == 0) {
+                    temperature *= COOLING_RATE;
+                    if (cost < restartBest) {
+                        restartBest = cost;
+                        chainsWithoutImprovement = 0;
+                    } else if (++chainsWithoutImprovement >= REHEAT_CHAINS) {
+                        temperature = initialTemperature;
+                        chainsWithoutImprovement = 0;
+                        stats.reheats++;
+                    }
+                }
+            }
+            stats.finalTemperature = temperature;
+        }
+
+        stats.bestCost = bestCost;
+        stats.elapsedNanos = System.nanoTime() - startTime;
+        return best.toGrid();
+    }
+
+    // Convergence metrics of the last solve
+    public ConvergenceStats getLastStats() {
+        return lastStats;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // The non-given cells of each box
+    private static int[][] freeCellsByBox(Board puzzle) {
+        int[][] freeCells = new int[GRID_SIZE][];
+        for (int box = 0; box < GRID_SIZE; box++) {
+            int[] unit = Board.UNITS[2 * GRID_SIZE + box];
+            int count = 0;
+            for (int cell : unit) {
+                if (puzzle.get(cell) == 0) {
+                    count++;
+                }
+            }
+            freeCells[box] = new int[count];
+            count = 0;
+            for (int cell : unit) {
+                if (puzzle.get(cell) == 0) {
+                    freeCells[box][count++] = cell;
+                }
+            }
+        }
+        return freeCells;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Fill every box with a random permutation of its missing digits and
+    // recount the row and column conflicts
+    private void fillBoxes(Board puzzle, int[][] freeCells, SplittableRandom random) {
+        puzzle.copyInto(board);
+        int[] missing = new int[GRID_SIZE];
+        for (int box = 0; box < GRID_SIZE; box++) {
+            int used = 0;
+            for (int cell : Board.UNITS[2 * GRID_SIZE + box]) {
+                used |= 1 << puzzle.get(cell);
+            }
+            int count = 0;
+            for (int digit = 1; digit <= GRID_SIZE; digit++) {
+                if ((used & (1 << digit)) == 0) {
+                    missing[count++] = digit;
+                }
+            }
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = missing[i];
+                missing[i] = missing[j];
+                missing[j] = temp;
+            }
+            for (int i = 0; i < count; i++) {
+                board.set(freeCells[box][i], missing[i]);
+            }
+        }
+
+        Arrays.fill(counts, 0);
+        cost = 0;
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            cost += addDigit(Board.ROW[cell], board.get(cell));
+            cost += addDigit(GRID_SIZE + Board.COL[cell], board.get(cell));
+        }
+    }
+
+    // Cost change of adding one occurrence of digit to a row/column unit
+    private int addDigit(int unit, int digit) {
+        return counts[unit * (GRID_SIZE + 1) + digit]++ > 0 ? 1 : 0;
+    }
+
+    // Cost change of removing one occurrence of digit from a row/column unit
+    private int removeDigit(int unit, int digit) {
+        return --counts[unit * (GRID_SIZE + 1) + digit] > 0 ? -1 : 0;
+    }
+
+    // Last swap, kept so that a rejected move can be undone
+    private int swapA;
+    private int swapB;
+
+    // Time Complexity: O(1)
+    // Swap two random non-given cells of a random box, return the cost delta
+    private int randomSwap(int[][] freeCells, SplittableRandom random) {
+        int[] cells;
+        do {
+            cells = freeCells[random.nextInt(GRID_SIZE)];
+        } while (cells.length < 2);
+        int first = random.nextInt(cells.length);
+        int second = random.nextInt(cells.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        swapA = cells[first];
+        swapB = cells[second];
+        return swap(swapA, swapB);
+    }
+
+    private void undoSwap() {
+        swap(swapA, swapB);
+    }
+
+    private int swap(int a, int b) {
+        int valueA = board.get(a);
+        int valueB = board.get(b);
+        int delta = removeDigit(Board.ROW[a], valueA) + removeDigit(GRID_SIZE + Board.COL[a], valueA)
+                + removeDigit(Board.ROW[b], valueB) + removeDigit(GRID_SIZE + Board.COL[b], valueB)
+                + addDigit(Board.ROW[a], valueB) + addDigit(GRID_SIZE + Board.COL[a], valueB)
+                + addDigit(Board.ROW[b], valueA) + addDigit(GRID_SIZE + Board.COL[b], valueA);
+        board.set(a, valueB);
+        board.set(b, valueA);
+        cost += delta;
+        return delta;
+    }
+
+    // Initial temperature: standard deviation of the cost over a short random
+    // walk in which every move is accepted, then the walk is kept as the start.
+    // The walk stops early on a solution, which the caller then keeps as its best
+    private double initialTemperature(int[][] freeCells, SplittableRandom random) {
+        double sum = 0;
+        double sumOfSquares = 0;
+        int samples = 0;
+        while (samples < TEMPERATURE_SAMPLES && cost > 0) {
+            randomSwap(freeCells, random);
+            sum += cost;
+            sumOfSquares += (double) cost * cost;
+            samples++;
+        }
+        if (samples == 0) {
+            return 0.5;
+        }
+        double mean = sum / samples;
+        return Math.max(0.5, Math.sqrt(Math.max(0, sumOfSquares / samples - mean * mean)));
+    }
+
+    // Moves per temperature step: the number of free cells
+    private static int chainLength(int[][] freeCells) {
+        int free = 0;
+        for (int[] cells : freeCells) {
+            free += cells.length;
+        }
+        return Math.max(1, free);
+    }
+
+    private static boolean hasMove(int[][] freeCells) {
+        for (int[] cells : freeCells) {
+            if (cells.length >= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Time Complexity: O(iterations)
+    // Memetic refinement of a SimpleGenetic individual with the moves of the
+    // annealing solver: swaps of two non-given cells of a box, accepted with the
+    // annealing rule at a low fixed temperature. SimpleGenetic fills cells one by
+    // one, so a copy of the individual first has the repeated digits of each box
+    // replaced by the missing ones; the swaps then keep every box a permutation.
+    // The individual itself is not changed (it may be shared as an elite or
+    // migrant); the best board of the walk is returned as a new Individual, or
+    // the original one if the walk found nothing better
+    static Individual refine(Individual individual, Board puzzle, int iterations, SplittableRandom random) {
+        int[][] freeCells = freeCellsByBox(puzzle);
+        if (!hasMove(freeCells)) {
+            return individual;
+        }
+        Individual walker = new Individual(individual.board.copy(), random);
+        repairBoxes(walker, puzzle, freeCells, random);
+        Board bestBoard = individual.board;
+        int bestFitness = individual.fitness;
+        if (walker.fitness < bestFitness) {
+            bestFitness = walker.fitness;
+            bestBoard = walker.board.copy();
+        }
+
+        for (int i = 0; i < iterations && bestFitness > 0; i++) {
+            int[] cells;
+            do {
+                cells = freeCells[random.nextInt(GRID_SIZE)];
+            } while (cells.length < 2);
+            int first = random.nextInt(cells.length);
+            int second = random.nextInt(cells.length - 1);
+            if (second >= first) {
+                second++;
+            }
+            int a = cells[first];
+            int b = cells[second];
+            int valueA = walker.board.get(a);
+            int valueB = walker.board.get(b);
+
+            int before = walker.fitness;
+            walker.setCell(a, valueB);
+            walker.setCell(b, valueA);
+            int delta = walker.fitness - before;
+            if (delta > 0 && random.nextDouble() >= Math.exp(-delta / REFINE_TEMPERATURE)) {
+                walker.setCell(a, valueA);
+                walker.setCell(b, valueB);
+            } else if (walker.fitness < bestFitness) {
+                bestFitness = walker.fitness;
+                bestBoard = walker.board.copy();
+            }
+        }
+        return bestBoard == individual.board ? individual : new Individual(bestBoard, random);
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Give the free cells of every box that repeat a digit of the box one of
+    // the digits the box is missing, in random order. The givens are counted
+    // first, so a free cell holding the digit of a given is the one replaced,
+    // wherever it comes in the box
+    private static void repairBoxes(Individual individual, Board puzzle, int[][] freeCells,
+            SplittableRandom random) {
+        int[] missing = new int[GRID_SIZE];
+        int[] repeated = new int[GRID_SIZE];
+        for (int box = 0; box < GRID_SIZE; box++) {
+            int seen = 0;
+            for (int cell : Board.UNITS[2 * GRID_SIZE + box]) {
+                seen |= 1 << puzzle.get(cell);
+            }
+            seen &= ~1; // empty cells are not a digit
+            int repeatedCount = 0;
+            for (int cell : freeCells[box]) {
+                int digit = individual.board.get(cell);
+                if ((seen & (1 << digit)) != 0) {
+                    repeated[repeatedCount++] = cell;
+                } else {
+                    seen |= 1 << digit;
+                }
+            }
+            int missingCount = 0;
+            for (int digit = 1; digit <= GRID_SIZE; digit++) {
+                if ((seen & (1 << digit)) == 0) {
+                    missing[missingCount++] = digit;
+                }
+            }
+            for (int i = 0; i < repeatedCount; i++) {
+                int j = i + random.nextInt(missingCount - i);
+                int digit = missing[j];
+                missing[j] = missing[i];
+                individual.setCell(repeated[i], digit);
+            }
+        }
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // The annealing state is built on the 9x9 structures.Board, so only 9x9 boards are valid
+    @Override
+    public boolean isValidBoard(int[][] board) {
+        return BoardGeometry.boxSizeOf(board) == Board.BOX_SIZE && BoardGeometry.isValidBoard(board);
+    }
+
+    // Convergence metrics of one solve, for tuning the budgets
+    public static class ConvergenceStats {
+        private long iterations;
+        private int restarts;
+        private int reheats;
+        private long acceptedMoves;
+        private long uphillMoves;
+        private int bestCost = -1;
+        private double initialTemperature;
+        private double finalTemperature;
+        private long nanosToBest;
+        private long elapsedNanos;
+
+        public long getIterations() {
+            return iterations;
+        }
+
+        public int getRestarts() {
+            return restarts;
+        }
+
+        public int getReheats() {
+            return reheats;
+        }
+
+        // Fraction of proposed moves that were accepted
+        public double getAcceptanceRate() {
+            return iterations > 0 ? (double) acceptedMoves / iterations : 0;
+        }
+
+        // Fraction of accepted moves that made the cost worse
+        public double getUphillRate() {
+            return acceptedMoves > 0 ? (double) uphillMoves / acceptedMoves : 0;
+        }
+
+        // Lowest cost reached, 0 when the puzzle was solved
+        public int getBestCost() {
+            return bestCost;
+        }
+
+        public double getInitialTemperature() {
+            return initialTemperature;
+        }
+
+        public double getFinalTemperature() {
+            return finalTemperature;
+        }
+
+        public long getNanosToBest() {
+            return nanosToBest;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public void printSummary() {
+            System.out.printf("Iterations: %d, Restarts: %d, Reheats: %d, Acceptance: %.1f%% (uphill %.1f%%), "
+                    + "Best Cost: %d, Temperature: %.3f -> %.3f, Time to best: %.3f ms, Total: %.3f ms%n",
+                    iterations, restarts, reheats, 100 * getAcceptanceRate(), 100 * getUphillRate(), bestCost,
+                    initialTemperature, finalTemperature, nanosToBest / 1_000_000.0, elapsedNanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package algorithms;
+
+// Thrown when a solve is stopped through SolveContext.cancel()
+public class SolveCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public SolveCancelledException() {
+        super("Solver was cancelled");
+    }
+}
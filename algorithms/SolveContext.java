@@ -0,0 +1,148 @@
+package algorithms;
+
+// Deadline and cancellation state for one solve.
+// Solvers call checkpoint() once per search node (or check() once per
+// generation); the clock and the cancel flag are only read every
+// checkInterval checkpoints, so the cost per node is a single decrement.
+// cancel() may be called from any thread. A context is used by one thread at a
+// time; parallel solvers give each task its own fork(), which shares the
+// deadline and is cancelled together with its parent.
+// Every context, forks included, has its own SolveStats for the search counters.
+public class SolveContext {
+    public static final long DEFAULT_BUDGET_MS = 120000;
+    public static final int DEFAULT_CHECK_INTERVAL = 1024;
+
+    private final long budgetMs;
+    private final long deadline; // System.nanoTime() value
+    private final int baseCheckInterval; // as given, before scaling to the board
+    private int checkInterval;
+    private final SolveContext parent;
+    private volatile boolean cancelled = false;
+    private int countdown;
+    private final SolveStats stats = new SolveStats();
+
+    public SolveContext() {
+        this(DEFAULT_BUDGET_MS);
+    }
+
+    public SolveContext(long budgetMs) {
+        this(budgetMs, DEFAULT_CHECK_INTERVAL);
+    }
+
+    public SolveContext(long budgetMs, int checkInterval) {
+        if (budgetMs < 0 || checkInterval < 1) {
+            throw new IllegalArgumentException("Invalid time budget or check interval.");
+        }
+        this.budgetMs = budgetMs;
+        this.deadline = System.nanoTime() + budgetMs * 1_000_000L;
+        this.baseCheckInterval = checkInterval;
+        this.checkInterval = checkInterval;
+        this.parent = null;
+        this.countdown = checkInterval;
+    }
+
+    private SolveContext(SolveContext parent) {
+        this.budgetMs = parent.budgetMs;
+        this.deadline = parent.deadline;
+        this.baseCheckInterval = parent.baseCheckInterval;
+        this.checkInterval = parent.checkInterval;
+        this.parent = parent;
+        this.countdown = checkInterval;
+    }
+
+    private SolveContext(SolveContext parent, long budgetMs) {
+        long now = System.nanoTime();
+        long remainingMs = Math.max(0, (parent.deadline - now) / 1_000_000L);
+        if (budgetMs < remainingMs) {
+            this.budgetMs = budgetMs;
+            this.deadline = now + budgetMs * 1_000_000L;
+        } else {
+            this.budgetMs = remainingMs;
+            this.deadline = parent.deadline;
+        }
+        this.baseCheckInterval = parent.baseCheckInterval;
+        this.checkInterval = parent.checkInterval;
+        this.parent = parent;
+        this.countdown = checkInterval;
+    }
+
+    // Child context with the same deadline, cancelled whenever this one is
+    public SolveContext fork() {
+        return new SolveContext(this);
+    }
+
+    // Child context with its own budget, capped by the deadline of this one,
+    // and cancelled whenever this one is (e.g. one puzzle of a batch)
+    public SolveContext fork(long budgetMs) {
+        if (budgetMs < 0) {
+            throw new IllegalArgumentException("Invalid time budget.");
+        }
+        return new SolveContext(this, budgetMs);
+    }
+
+    // Request the solve to stop, safe to call from any thread
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadline > 0;
+    }
+
+    // Time Complexity: O(1) — amortized, the clock is read every checkInterval calls
+    public void checkpoint() {
+        if (--countdown > 0) {
+            return;
+        }
+        countdown = checkInterval;
+        check();
+    }
+
+    // Throw if the solve was cancelled or ran out of time
+    public void check() {
+        if (isCancelled()) {
+            throw new SolveCancelledException();
+        }
+        if (isExpired()) {
+            throw new SolveTimeoutException(budgetMs);
+        }
+    }
+
+    // Read the clock more often on boards larger than 9x9, for solvers whose
+    // nodes cost O(N^3) there (the propagation of the constraint solvers): the
+    // interval given to this context is scaled down by (9 / N)^3, e.g. from 1024
+    // to 182 on 16x16 and 47 on 25x25. Forks made afterwards inherit it.
+    // Returns the interval in force before, which the solver hands back to
+    // restoreCheckInterval in a finally block, so the caller's context is the
+    // same after the solve and a later 9x9 solve is not checked more often
+    int scaleCheckInterval(int size) {
+        int previous = checkInterval;
+        long scaled = baseCheckInterval * 729L / ((long) size * size * size);
+        if (scaled < checkInterval) {
+            checkInterval = (int) Math.max(1, scaled);
+            countdown = Math.min(countdown, checkInterval);
+        }
+        return previous;
+    }
+
+    void restoreCheckInterval(int interval) {
+        checkInterval = interval;
+    }
+
+    public int getCheckInterval() {
+        return checkInterval;
+    }
+
+    // Counters of the solves run with this context
+    public SolveStats getStats() {
+        return stats;
+    }
+
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+}
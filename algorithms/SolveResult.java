@@ -0,0 +1,26 @@
+package algorithms;
+
+// Solution of a solve together with its search counters and wall time. The
+// counters are a copy, so reusing the context for another solve leaves them as
+// they were
+public class SolveResult {
+    private final int[][] solution;
+    private final SolveStats stats;
+
+    SolveResult(int[][] solution, SolveStats stats) {
+        this.solution = solution;
+        this.stats = stats.copy();
+    }
+
+    public int[][] getSolution() {
+        return solution;
+    }
+
+    public SolveStats getStats() {
+        return stats;
+    }
+
+    public long getWallNanos() {
+        return stats.getWallNanos();
+    }
+}
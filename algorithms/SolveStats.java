@@ -0,0 +1,127 @@
+package algorithms;
+
+// Search counters of one solve, carried by its SolveContext.
+// Every solver fills the counters that make sense for it: the exact solvers
+// count search nodes, backtracks, the deepest guess and the deductions of
+// their propagation; the genetic and annealing solvers count generations and
+// fitness evaluations (annealing moves). The counters are plain fields bumped
+// by the solvers of this package, which costs about as much as the
+// checkpoint() already made at every node, so they are on by default.
+// Running with -Dsudoku.stats=off turns every count into a no-op that the JIT
+// removes (ENABLED is a constant), to measure what the counters cost
+// (benchmarks/StatsOverheadBenchmark); the wall time is still recorded.
+// Like its context, an instance belongs to one thread; parallel solvers
+// count in the stats of each fork and add them up when the tasks are done.
+public class SolveStats {
+    public static final boolean ENABLED = !"off".equals(System.getProperty("sudoku.stats"));
+
+    long nodes;
+    long backtracks;
+    int maxDepth;
+    long propagations;
+    long generations;
+    long evaluations;
+    long wallNanos;
+
+    // Count a search node at the given depth (number of guesses above it)
+    void node(int depth) {
+        if (!ENABLED) {
+            return;
+        }
+        nodes++;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    void backtrack() {
+        if (ENABLED) {
+            backtracks++;
+        }
+    }
+
+    void propagated(long deductions) {
+        if (ENABLED) {
+            propagations += deductions;
+        }
+    }
+
+    void generation() {
+        if (ENABLED) {
+            generations++;
+        }
+    }
+
+    void evaluated(long count) {
+        if (ENABLED) {
+            evaluations += count;
+        }
+    }
+
+    // Add the counters of another solve, e.g. a fork of this one. The wall
+    // time is not added: forks run at the same time as their parent.
+    public void add(SolveStats other) {
+        nodes += other.nodes;
+        backtracks += other.backtracks;
+        maxDepth = Math.max(maxDepth, other.maxDepth);
+        propagations += other.propagations;
+        generations += other.generations;
+        evaluations += other.evaluations;
+    }
+
+    // Snapshot of the counters, which later solves with the same context do not change
+    SolveStats copy() {
+        SolveStats copy = new SolveStats();
+        copy.add(this);
+        copy.wallNanos = wallNanos;
+        return copy;
+    }
+
+    public void reset() {
+        nodes = 0;
+        backtracks = 0;
+        maxDepth = 0;
+        propagations = 0;
+        generations = 0;
+        evaluations = 0;
+        wallNanos = 0;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    // Guesses undone because they led to a dead end
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    // Deductions made by constraint propagation
+    public long getPropagations() {
+        return propagations;
+    }
+
+    public long getGenerations() {
+        return generations;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    // Wall-clock time of the solve, set by RMIT_Sudoku_Solver.solveWithStats
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Nodes: %d, Backtracks: %d, Max Depth: %d, Propagations: %d, Generations: %d, "
+                + "Evaluations: %d, Wall Time: %.4f ms", nodes, backtracks, maxDepth, propagations, generations,
+                evaluations, wallNanos / 1_000_000.0);
+    }
+}
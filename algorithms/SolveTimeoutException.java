@@ -0,0 +1,17 @@
+package algorithms;
+
+// Thrown when a solve runs past the time budget of its SolveContext
+public class SolveTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long budgetMs;
+
+    public SolveTimeoutException(long budgetMs) {
+        super("Solver exceeded time limit of " + budgetMs + " ms");
+        this.budgetMs = budgetMs;
+    }
+
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+}
@@ -0,0 +1,157 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.DifficultyGrader;
+import algorithms.ParallelConstraintSatisfaction;
+import algorithms.PermutationGenetic;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SimpleGenetic;
+import algorithms.SimulatedAnnealing;
+import algorithms.SolveContext;
+import algorithms.SolveTimeoutException;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+// JMH benchmark of every solver on every difficulty tier of puzzles/.
+// One operation solves one puzzle of the tier, cycling through the file; the
+// copy of the puzzle the solver works on and its SolveContext are part of the
+// operation (the same for every solver). Every solve gets budgetMs, so a slow
+// solver cannot stall an iteration for the 2 minute default budget; a timed
+// out solve still counts as an operation, and the Outcomes counters report
+// solved, timed out and failed (unsolvable, or gave up) solves next to the
+// score, so a fast score made of timeouts is visible as such.
+// The genetic solvers are sized like in SudokuBenchmark, from the grade of the
+// hardest puzzle of the tier (DifficultyGrader.geneticParameters).
+//
+// Build and run from the repository root (the puzzles are read from puzzles/):
+//   mvn -B package
+//   java -jar target/benchmarks.jar SolverBenchmark -prof gc
+//   java -jar target/benchmarks.jar SolverBenchmark -p solver=DancingLinks -p tier=hard -prof gc
+//   java -jar target/benchmarks.jar SolverBenchmark -p solver=Backtracking -p budgetMs=500
+// or run main, which adds the GC profiler to the same command line options.
+// Scores are in milliseconds; add -tu us to read the fast solvers.
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SolverBenchmark {
+    @Param({ "Backtracking", "ConstraintSatisfaction", "ParallelConstraintSatisfaction", "DancingLinks",
+            "SimpleGenetic", "PermutationGenetic", "SimulatedAnnealing" })
+    public String solver;
+
+    @Param({ "easy", "medium", "hard", "very_hard", "unsolvable" })
+    public String tier;
+
+    @Param({ "5000" })
+    public long budgetMs;
+
+    private RMIT_Sudoku_Solver instance;
+    private List<int[][]> puzzles;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        puzzles = SudokuIOHandling.loadSudokuPuzzles("puzzles/" + tier + "_puzzles.txt");
+        if (puzzles == null || puzzles.size() == 0) {
+            throw new IllegalStateException("Cannot load puzzles for tier " + tier);
+        }
+        instance = createSolver(solver, puzzles);
+    }
+
+    // Outcome of the solves of one iteration, reported as extra result columns
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long solved;
+        public long timeouts;
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            solved = 0;
+            timeouts = 0;
+            failures = 0;
+        }
+    }
+
+    @Benchmark
+    public void solve(Blackhole blackhole, Outcomes outcomes) {
+        int[][] puzzle = SudokuTestUtils.copy(puzzles.get(next));
+        next = (next + 1) % puzzles.size();
+        try {
+            blackhole.consume(instance.solve(puzzle, new SolveContext(budgetMs)));
+            outcomes.solved++;
+        } catch (SolveTimeoutException e) {
+            blackhole.consume(e);
+            outcomes.timeouts++;
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+            outcomes.failures++;
+        }
+    }
+
+    private static RMIT_Sudoku_Solver createSolver(String name, List<int[][]> puzzles) {
+        switch (name) {
+            case "Backtracking":
+                return new Backtracking();
+            case "ConstraintSatisfaction":
+                return new ConstraintSatisfaction();
+            case "ParallelConstraintSatisfaction":
+                return new ParallelConstraintSatisfaction();
+            case "DancingLinks":
+                return new DancingLinks();
+            case "SimpleGenetic": {
+                DifficultyGrader.GeneticParameters parameters = new DifficultyGrader().geneticParameters(puzzles);
+                return new SimpleGenetic(parameters.populationSize, parameters.mutationRate,
+                        parameters.maxGenerations);
+            }
+            case "PermutationGenetic": {
+                DifficultyGrader.GeneticParameters parameters = new DifficultyGrader().geneticParameters(puzzles);
+                return new PermutationGenetic(parameters.populationSize, parameters.mutationRate,
+                        parameters.maxGenerations);
+            }
+            case "SimulatedAnnealing":
+                return new SimulatedAnnealing();
+            default:
+                throw new IllegalArgumentException("Unknown solver: " + name);
+        }
+    }
+
+    // Same options as the JMH command line, with the GC profiler for the
+    // allocation rate (bytes/op and MB/s) of every solver
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SolverBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
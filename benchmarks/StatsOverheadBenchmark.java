@@ -0,0 +1,79 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+// Cost of the search counters (SolveStats): the same solves with the counters
+// on, and in JVMs forked with -Dsudoku.stats=off, where every count is a no-op.
+// The exact solvers count at every search node, the cheapest unit of work of
+// any solver, so their slowdown bounds the cost for the others.
+//
+//   java -jar target/benchmarks.jar StatsOverheadBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class StatsOverheadBenchmark {
+    @Param({ "Backtracking", "ConstraintSatisfaction", "DancingLinks" })
+    public String solver;
+
+    @Param({ "very_hard" })
+    public String tier;
+
+    private RMIT_Sudoku_Solver instance;
+    private List<int[][]> puzzles;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        puzzles = SudokuIOHandling.loadSudokuPuzzles("puzzles/" + tier + "_puzzles.txt");
+        if (puzzles == null || puzzles.size() == 0) {
+            throw new IllegalStateException("Cannot load puzzles for tier " + tier);
+        }
+        switch (solver) {
+            case "Backtracking" -> instance = new Backtracking();
+            case "ConstraintSatisfaction" -> instance = new ConstraintSatisfaction();
+            case "DancingLinks" -> instance = new DancingLinks();
+            default -> throw new IllegalArgumentException("Unknown solver: " + solver);
+        }
+    }
+
+    @Benchmark
+    @Fork(2)
+    public void countersOn(Blackhole blackhole) {
+        solveNext(blackhole);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dsudoku.stats=off")
+    public void countersOff(Blackhole blackhole) {
+        solveNext(blackhole);
+    }
+
+    private void solveNext(Blackhole blackhole) {
+        int[][] puzzle = SudokuTestUtils.copy(puzzles.get(next));
+        next = (next + 1) % puzzles.size();
+        blackhole.consume(instance.solve(puzzle));
+    }
+}
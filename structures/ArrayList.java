@@ -1,16 +1,37 @@
 package structures;
 
+import java.util.Arrays;
+
+// Array-backed list that grows on demand: the backing array starts small and
+// doubles when full, so add() is amortized O(1) and never drops elements.
 public class ArrayList<T> implements List<T> {
     private int size;
     private int pointer;
-    private static int CAPACITY = 1000;
+    private static final int DEFAULT_CAPACITY = 10;
     private T[] items;
 
-    @SuppressWarnings("unchecked")
     public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Preallocate room for initialCapacity elements, e.g. when the final size
+    // is known, to avoid any regrowth
+    @SuppressWarnings("unchecked")
+    public ArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
         size = 0;
         pointer = 0;
-        items = (T[]) new Object[CAPACITY];
+        items = (T[]) new Object[initialCapacity];
+    }
+
+    // Time Complexity: O(n) when the array is full, O(1) otherwise
+    // Double the backing array if there is no room for one more element
+    private void ensureCapacity() {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(DEFAULT_CAPACITY, items.length * 2));
+        }
     }
 
     // shift all elements from index one position to the right
@@ -40,7 +61,7 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public T get(int index) {
-        if (index >= size) {
+        if (index >= size || index < 0) {
             return null;
         }
         return items[index];
@@ -69,9 +90,10 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public boolean insertAt(int index, T value) {
-        if (index > size) {
+        if (index > size || index < 0) {
             return false;
         }
+        ensureCapacity();
         shiftRight(index);
         items[index] = value;
         size++;
@@ -100,11 +122,11 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public boolean removeAt(int index) {
-        if (index >= size) {
+        if (index >= size || index < 0) {
             return false;
         }
         shiftLeft(index);
-        size--;
+        items[--size] = null; // let the removed element be collected
         return true;
     }
 
@@ -120,8 +142,7 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public boolean add(T value) {
-        if (size >= items.length)
-            return false;
+        ensureCapacity();
         items[size++] = value;
         return true;
     }
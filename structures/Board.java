@@ -0,0 +1,143 @@
+package structures;
+
+// 9x9 Sudoku board stored as one flat byte[81] in row-major order (cell index
+// = row * 9 + col, 0 for empty), instead of the 10 heap objects of an int[][].
+// Copies are a single System.arraycopy, and the static tables below (the 9x9
+// BoardGeometry) give the row, column, box, units and peers of every cell
+// without any arithmetic, so code working on many boards (genetic
+// populations, parallel search) stays cache friendly and allocation free.
+// Use fromGrid/toGrid to convert at the RMIT_Sudoku_Solver int[][] boundary.
+public class Board {
+    public static final int BOX_SIZE = 3;
+    public static final BoardGeometry GEOMETRY = BoardGeometry.of(BOX_SIZE);
+    public static final int SIZE = GEOMETRY.size;
+    public static final int CELL_COUNT = GEOMETRY.cellCount;
+    public static final int UNIT_COUNT = GEOMETRY.unitCount;
+    public static final int PEER_COUNT = GEOMETRY.peerCount;
+
+    // Cell index -> row, column and box index
+    public static final int[] ROW = GEOMETRY.rowOf;
+    public static final int[] COL = GEOMETRY.colOf;
+    public static final int[] BOX = GEOMETRY.boxOf;
+
+    // The 27 units (9 rows, then 9 columns, then 9 boxes) as lists of cell indexes
+    public static final int[][] UNITS = GEOMETRY.units;
+
+    // Cell index -> the 20 other cells sharing its row, column or box
+    public static final int[][] PEERS = GEOMETRY.peers;
+
+    private final byte[] cells = new byte[CELL_COUNT];
+
+    // Empty board
+    public Board() {
+    }
+
+    // Time Complexity: O(81) = O(1)
+    public Board(Board other) {
+        other.copyInto(this);
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Convert an int[][] board, values must be 0-9
+    public static Board fromGrid(int[][] grid) {
+        Board board = new Board();
+        board.load(grid);
+        return board;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Overwrite this board with an int[][] board, reusing this instance
+    public void load(int[][] grid) {
+        if (grid.length != SIZE) {
+            throw new IllegalArgumentException("Board must have " + SIZE + " rows.");
+        }
+        for (int row = 0; row < SIZE; row++) {
+            if (grid[row].length != SIZE) {
+                throw new IllegalArgumentException("Board must have " + SIZE + " columns.");
+            }
+            for (int col = 0; col < SIZE; col++) {
+                set(row * SIZE + col, grid[row][col]);
+            }
+        }
+    }
+
+    // Time Complexity: O(81) = O(1)
+    public int[][] toGrid() {
+        int[][] grid = new int[SIZE][SIZE];
+        writeTo(grid);
+        return grid;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Write this board into an existing 9x9 int[][]
+    public void writeTo(int[][] grid) {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            grid[ROW[cell]][COL[cell]] = cells[cell];
+        }
+    }
+
+    // Time Complexity: O(81) = O(1), one System.arraycopy
+    // Overwrite dest with this board, so boards can be recycled without allocating
+    public void copyInto(Board dest) {
+        System.arraycopy(cells, 0, dest.cells, 0, CELL_COUNT);
+    }
+
+    public Board copy() {
+        return new Board(this);
+    }
+
+    public int get(int cell) {
+        return cells[cell];
+    }
+
+    public int get(int row, int col) {
+        return cells[row * SIZE + col];
+    }
+
+    public void set(int cell, int value) {
+        if (value < 0 || value > SIZE) {
+            throw new IllegalArgumentException("Invalid cell value: " + value);
+        }
+        cells[cell] = (byte) value;
+    }
+
+    public void set(int row, int col, int value) {
+        set(row * SIZE + col, value);
+    }
+
+    public static int index(int row, int col) {
+        return row * SIZE + col;
+    }
+
+    // Time Complexity: O(20) = O(1)
+    // Bitmask of the digits held by the peers of cell (bit d-1 for digit d)
+    public int peerDigits(int cell) {
+        int mask = 0;
+        for (int peer : PEERS[cell]) {
+            if (cells[peer] != 0) {
+                mask |= 1 << (cells[peer] - 1);
+            }
+        }
+        return mask;
+    }
+
+    // Time Complexity: O(81) = O(1)
+    public int countEmpty() {
+        int count = 0;
+        for (byte value : cells) {
+            if (value == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void print() {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                System.out.print(get(row, col) + " ");
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package structures;
+
+// Cell, unit and peer lookup tables for an N x N board made of
+// boxSize x boxSize boxes (N = boxSize^2: 9x9, 16x16, 25x25, ...).
+// Cells are numbered row-major (cell = row * N + col). The 3N units are the N
+// rows, then the N columns, then the N boxes, each as a list of cell indexes.
+// Candidate sets are int masks (bit d-1 for digit d), which holds up to 32
+// digits, so box sizes are limited to MAX_BOX_SIZE. The tables of every box
+// size are built once and shared, Board uses the 9x9 ones: never modify the
+// arrays, so instances stay immutable and thread-safe.
+public final class BoardGeometry {
+    public static final int MIN_BOX_SIZE = 2;
+    public static final int MAX_BOX_SIZE = 5;
+
+    private static final BoardGeometry[] CACHE = new BoardGeometry[MAX_BOX_SIZE + 1];
+
+    public final int boxSize;
+    public final int size;
+    public final int cellCount;
+    public final int unitCount;
+    public final int allDigits;
+    public final int peerCount;
+
+    public final int[] rowOf;
+    public final int[] colOf;
+    public final int[] boxOf;
+    public final int[][] units;
+    // Cell index -> the other cells sharing its row, column or box
+    public final int[][] peers;
+
+    private BoardGeometry(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cellCount = size * size;
+        this.unitCount = 3 * size;
+        this.allDigits = (1 << size) - 1;
+        this.peerCount = 3 * size - 2 * boxSize - 1;
+
+        rowOf = new int[cellCount];
+        colOf = new int[cellCount];
+        boxOf = new int[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            rowOf[cell] = cell / size;
+            colOf[cell] = cell % size;
+            boxOf[cell] = (rowOf[cell] / boxSize) * boxSize + colOf[cell] / boxSize;
+        }
+
+        units = new int[unitCount][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                units[i][j] = i * size + j;
+                units[size + i][j] = j * size + i;
+                units[2 * size + i][j] = ((i / boxSize) * boxSize + j / boxSize) * size
+                        + (i % boxSize) * boxSize + j % boxSize;
+            }
+        }
+
+        peers = new int[cellCount][peerCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int count = 0;
+            for (int other = 0; other < cellCount; other++) {
+                if (other != cell && (rowOf[other] == rowOf[cell] || colOf[other] == colOf[cell]
+                        || boxOf[other] == boxOf[cell])) {
+                    peers[cell][count++] = other;
+                }
+            }
+        }
+    }
+
+    // Shared tables for a box size
+    public static synchronized BoardGeometry of(int boxSize) {
+        if (boxSize < MIN_BOX_SIZE || boxSize > MAX_BOX_SIZE) {
+            throw new IllegalArgumentException(
+                    "Box size must be between " + MIN_BOX_SIZE + " and " + MAX_BOX_SIZE + ".");
+        }
+        if (CACHE[boxSize] == null) {
+            CACHE[boxSize] = new BoardGeometry(boxSize);
+        }
+        return CACHE[boxSize];
+    }
+
+    // Time Complexity: O(N)
+    // Box size of a square board whose side is a supported perfect square
+    // (3 for 9x9, 4 for 16x16, 5 for 25x25), or -1 for any other shape
+    public static int boxSizeOf(int[][] board) {
+        if (board == null) {
+            return -1;
+        }
+        int boxSize = boxSizeOf(board.length);
+        if (boxSize < 0) {
+            return -1;
+        }
+        for (int[] row : board) {
+            if (row == null || row.length != board.length) {
+                return -1;
+            }
+        }
+        return boxSize;
+    }
+
+    // Box size for a board side length, or -1 if the side is not supported
+    public static int boxSizeOf(int size) {
+        for (int boxSize = MIN_BOX_SIZE; boxSize <= MAX_BOX_SIZE; boxSize++) {
+            if (boxSize * boxSize == size) {
+                return boxSize;
+            }
+        }
+        return -1;
+    }
+
+    // Time Complexity: O(N^2)
+    // The validity check shared by every solver: a supported board shape, cell
+    // values 0-N (0 is an empty cell) and no digit twice in a row, column or box
+    public static boolean isValidBoard(int[][] board) {
+        int boxSize = boxSizeOf(board);
+        if (boxSize < 0) {
+            return false;
+        }
+        int n = board.length;
+        int[] rows = new int[n];
+        int[] cols = new int[n];
+        int[] boxes = new int[n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                int num = board[row][col];
+                if (num == 0) {
+                    continue;
+                }
+                if (num < 1 || num > n) {
+                    return false;
+                }
+                int bit = 1 << (num - 1);
+                int box = (row / boxSize) * boxSize + col / boxSize;
+                if (((rows[row] | cols[col] | boxes[box]) & bit) != 0) {
+                    return false;
+                }
+                rows[row] |= bit;
+                cols[col] |= bit;
+                boxes[box] |= bit;
+            }
+        }
+        return true;
+    }
+
+    public int row(int cell) {
+        return rowOf[cell];
+    }
+
+    public int col(int cell) {
+        return colOf[cell];
+    }
+
+    public int box(int cell) {
+        return boxOf[cell];
+    }
+
+    public int[] unit(int index) {
+        return units[index];
+    }
+
+    public int[] peers(int cell) {
+        return peers[cell];
+    }
+}
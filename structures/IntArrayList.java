@@ -0,0 +1,129 @@
+package structures;
+
+import java.util.Arrays;
+
+// Growable list of primitive ints backed by an int[], the unboxed version of
+// ArrayList<Integer>. The backing array doubles when full.
+public class IntArrayList implements IntList {
+    private int size;
+    private int pointer;
+    private static final int DEFAULT_CAPACITY = 10;
+    private int[] items;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        size = 0;
+        pointer = 0;
+        items = new int[initialCapacity];
+    }
+
+    // Time Complexity: O(n) when the array is full, O(1) otherwise
+    private void ensureCapacity() {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(DEFAULT_CAPACITY, items.length * 2));
+        }
+    }
+
+    private int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void reset() {
+        pointer = 0;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return items[index];
+    }
+
+    @Override
+    public boolean hasNext() {
+        return (pointer < size);
+    }
+
+    @Override
+    public int next() {
+        return get(pointer++);
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public boolean insertAt(int index, int value) {
+        if (index > size || index < 0) {
+            return false;
+        }
+        ensureCapacity();
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = value;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAt(int index) {
+        if (index >= size || index < 0) {
+            return false;
+        }
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int value) {
+        int index = indexOf(value);
+        return index >= 0 && removeAt(index);
+    }
+
+    @Override
+    public boolean add(int value) {
+        ensureCapacity();
+        items[size++] = value;
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean set(int index, int value) {
+        if (index >= size || index < 0) {
+            return false;
+        }
+        items[index] = value;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        pointer = 0;
+    }
+}
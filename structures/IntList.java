@@ -0,0 +1,51 @@
+package structures;
+
+// Primitive int counterpart of List<T>: same contract, but values are stored
+// unboxed so no Integer object is allocated per element.
+public interface IntList {
+    // insert a value at a specific index (index starts from zero)
+    // if the index is invalid, return false
+    // return true in other cases
+    public boolean insertAt(int index, int value);
+
+    // remove a value at a specific index (index starts from zero)
+    // if the index is invalid, return false
+    // return true in other cases
+    public boolean removeAt(int index);
+
+    // remove a value in the list
+    // if there are multiple value, remove the first one (from the left)
+    // if value doesn't exist, return false
+    // return true in other cases
+    public boolean remove(int value);
+
+    // return whether a value exist in the list
+    public boolean contains(int value);
+
+    // return the number of elements in the list
+    public int size();
+
+    // return whether the next value exist in the list
+    public boolean hasNext();
+
+    // return the next value in the list, and advance to the next index
+    // if there is no value available, throw IndexOutOfBoundsException
+    public int next();
+
+    // reset the iteration
+    public void reset();
+
+    // return a value at a specific index
+    // throw IndexOutOfBoundsException if index is invalid (there is no null int)
+    public int get(int index);
+
+    public boolean add(int value);
+
+    public boolean isEmpty();
+
+    public boolean set(int index, int value);
+
+    // remove all values but keep the allocated capacity, so the list can be
+    // reused without allocating
+    public void clear();
+}
@@ -0,0 +1,195 @@
+package test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.ParallelConstraintSatisfaction;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SolveContext;
+import algorithms.SolveTimeoutException;
+import structures.ArrayList;
+import structures.BoardGeometry;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuPuzzleReader;
+import utils.SudokuTestUtils;
+
+// Solve times of every exact solver on 9x9, 16x16 and 25x25 boards.
+// Puzzles are generated from the pattern solution
+// value(r, c) = (box * (r % box) + r / box + c) % N + 1, scrambled by the
+// validity-preserving symmetries (digit relabeling, rows within a band, columns
+// within a stack, bands, stacks), with a random fraction of the cells emptied.
+// They may have several solutions; any valid completion counts as solved.
+// Each solve has its own time budget, and timeouts are reported separately,
+// which is where naive backtracking ends up on the larger boards.
+//
+// Usage: java -cp <classes> test.BoardSizeBenchmark [-n puzzles] [-budget ms] [-seed seed]
+public class BoardSizeBenchmark {
+    private static final int[] BOX_SIZES = { 3, 4, 5 };
+    private static final double[] EMPTY_FRACTIONS = { 0.6, 0.55, 0.5 };
+
+    public static void main(String[] args) {
+        int puzzleCount = 10;
+        long budgetMs = 2000;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-n" -> puzzleCount = Integer.parseInt(args[++i]);
+                case "-budget" -> budgetMs = Long.parseLong(args[++i]);
+                case "-seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        checkReader(generate(4, 0.5, random));
+
+        String[] names = { "Backtracking", "ConstraintSatisfaction", "ParallelConstraintSatisfaction",
+                "DancingLinks" };
+        List<Supplier<RMIT_Sudoku_Solver>> factories = new ArrayList<>(names.length);
+        factories.add(Backtracking::new);
+        factories.add(ConstraintSatisfaction::new);
+        factories.add(ParallelConstraintSatisfaction::new);
+        factories.add(DancingLinks::new);
+
+        for (int b = 0; b < BOX_SIZES.length; b++) {
+            int boxSize = BOX_SIZES[b];
+            int size = boxSize * boxSize;
+            List<int[][]> puzzles = new ArrayList<>(puzzleCount);
+            for (int i = 0; i < puzzleCount; i++) {
+                puzzles.add(generate(boxSize, EMPTY_FRACTIONS[b], random));
+            }
+
+            System.out.printf("%nBoard size: %dx%d (%d puzzles, %.0f%% empty, %d ms budget)%n", size, size,
+                    puzzleCount, EMPTY_FRACTIONS[b] * 100, budgetMs);
+            for (int s = 0; s < names.length; s++) {
+                RMIT_Sudoku_Solver solver = factories.get(s).get();
+                if (!solver.supportsBoxSize(boxSize)) {
+                    System.out.printf("  %-32s unsupported board size%n", names[s]);
+                    continue;
+                }
+                run(names[s], solver, puzzles, budgetMs);
+            }
+        }
+    }
+
+    private static void run(String name, RMIT_Sudoku_Solver solver, List<int[][]> puzzles, long budgetMs) {
+        int solved = 0;
+        int timeouts = 0;
+        long totalNanos = 0;
+        long maxNanos = 0;
+        for (int i = 0; i < puzzles.size(); i++) {
+            int[][] puzzle = SudokuTestUtils.copy(puzzles.get(i));
+            long startTime = System.nanoTime();
+            try {
+                int[][] solution = solver.solve(puzzle, new SolveContext(budgetMs));
+                if (isComplete(solution) && solver.isValidBoard(solution)) {
+                    solved++;
+                }
+            } catch (SolveTimeoutException e) {
+                timeouts++;
+            } catch (RuntimeException e) {
+                System.out.printf("  %s error on puzzle #%d: %s%n", name, i + 1, e.getMessage());
+            }
+            long elapsed = System.nanoTime() - startTime;
+            totalNanos += elapsed;
+            maxNanos = Math.max(maxNanos, elapsed);
+        }
+        System.out.printf("  %-32s %2d/%d solved, %2d timeouts, Avg Time: %10.4f ms, Max Time: %10.4f ms%n", name,
+                solved, puzzles.size(), timeouts, totalNanos / 1_000_000.0 / puzzles.size(),
+                maxNanos / 1_000_000.0);
+    }
+
+    // Time Complexity: O(N^2)
+    // Scrambled pattern solution with a fraction of its cells emptied
+    static int[][] generate(int boxSize, double emptyFraction, SplittableRandom random) {
+        int size = boxSize * boxSize;
+        int[] digits = permutation(size, random);
+        int[] rows = symmetricOrder(boxSize, random);
+        int[] cols = symmetricOrder(boxSize, random);
+
+        int[][] board = new int[size][size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                int row = rows[r];
+                int col = cols[c];
+                board[r][c] = digits[(boxSize * (row % boxSize) + row / boxSize + col) % size] + 1;
+                if (random.nextDouble() < emptyFraction) {
+                    board[r][c] = 0;
+                }
+            }
+        }
+        return board;
+    }
+
+    // Row (or column) order that shuffles the bands and the lines within each band
+    static int[] symmetricOrder(int boxSize, SplittableRandom random) {
+        int[] bands = permutation(boxSize, random);
+        int[] order = new int[boxSize * boxSize];
+        for (int band = 0; band < boxSize; band++) {
+            int[] lines = permutation(boxSize, random);
+            for (int line = 0; line < boxSize; line++) {
+                order[band * boxSize + line] = bands[band] * boxSize + lines[line];
+            }
+        }
+        return order;
+    }
+
+    static int[] permutation(int length, SplittableRandom random) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        return values;
+    }
+
+    private static boolean isComplete(int[][] board) {
+        for (int[] row : board) {
+            for (int value : row) {
+                if (value == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Read a generated board of every size back through both text formats
+    private static void checkReader(int[][] small) {
+        int checked = 0;
+        for (int boxSize = BoardGeometry.MIN_BOX_SIZE; boxSize <= BoardGeometry.MAX_BOX_SIZE; boxSize++) {
+            int[][] board = boxSize == 2 ? small : generate(boxSize, 0.5, new SplittableRandom(boxSize));
+            StringBuilder oneLine = new StringBuilder();
+            for (int[] row : board) {
+                for (int value : row) {
+                    oneLine.append(value < 10 ? (char) ('0' + value) : (char) ('A' + value - 10));
+                }
+            }
+            String text = SudokuIOHandling.formatBoard(board) + "\n" + oneLine + "\n";
+            try (SudokuPuzzleReader reader = new SudokuPuzzleReader(new StringReader(text), "generated")) {
+                for (int copy = 0; copy < 2; copy++) {
+                    int[][] read = reader.next();
+                    if (!Arrays.deepEquals(read, board)) {
+                        throw new IllegalStateException("Board of size " + board.length + " read back differently");
+                    }
+                    checked++;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        System.out.println("Reader round trip: " + checked + " boards (4x4 to 25x25, both formats) OK");
+    }
+}
@@ -0,0 +1,94 @@
+package test;
+
+import structures.Board;
+import structures.BoardGeometry;
+import structures.List;
+import utils.SudokuIOHandling;
+
+// Checks the flat Board against the int[][] boards it adapts, and the shared
+// BoardGeometry tables and validity check it is built on
+public class BoardTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        String basePath = "puzzles/";
+        int failures = 0;
+
+        for (int cell = 0; cell < Board.CELL_COUNT; cell++) {
+            for (int peer : Board.PEERS[cell]) {
+                boolean sharesUnit = Board.ROW[peer] == Board.ROW[cell] || Board.COL[peer] == Board.COL[cell]
+                        || Board.BOX[peer] == Board.BOX[cell];
+                if (peer == cell || !sharesUnit) {
+                    System.out.println("FAILED: cell " + cell + " has wrong peer " + peer);
+                    failures++;
+                }
+            }
+        }
+
+        for (int boxSize = BoardGeometry.MIN_BOX_SIZE; boxSize <= BoardGeometry.MAX_BOX_SIZE; boxSize++) {
+            BoardGeometry geometry = BoardGeometry.of(boxSize);
+            for (int cell = 0; cell < geometry.cellCount; cell++) {
+                int expected = 0;
+                for (int other = 0; other < geometry.cellCount; other++) {
+                    if (other != cell && (geometry.row(other) == geometry.row(cell)
+                            || geometry.col(other) == geometry.col(cell) || geometry.box(other) == geometry.box(cell))) {
+                        expected++;
+                    }
+                }
+                if (geometry.peers(cell).length != expected) {
+                    System.out.printf("FAILED: %dx%d cell %d has %d peers, expected %d%n", geometry.size,
+                            geometry.size, cell, geometry.peers(cell).length, expected);
+                    failures++;
+                }
+            }
+        }
+        if (Board.UNITS != Board.GEOMETRY.units || Board.PEERS != Board.GEOMETRY.peers) {
+            System.out.println("FAILED: Board does not share the 9x9 BoardGeometry tables");
+            failures++;
+        }
+
+        failures += expectValid("empty 16x16", new int[16][16], true);
+        failures += expectValid("10x10", new int[10][10], false);
+        int[][] duplicate = new int[9][9];
+        duplicate[0][0] = 5;
+        duplicate[1][1] = 5;
+        failures += expectValid("box duplicate", duplicate, false);
+        int[][] outOfRange = new int[9][9];
+        outOfRange[4][4] = 10;
+        failures += expectValid("value 10 on 9x9", outOfRange, false);
+
+        for (String difficulty : difficulties) {
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(basePath + difficulty + "_puzzles.txt");
+            Board reused = new Board();
+            for (int i = 0; i < puzzles.size(); i++) {
+                int[][] grid = puzzles.get(i);
+                if (!BoardGeometry.isValidBoard(grid)) {
+                    System.out.printf("FAILED: %s puzzle #%d reported invalid%n", difficulty, i + 1);
+                    failures++;
+                }
+                Board board = Board.fromGrid(grid);
+                board.copyInto(reused);
+                int[][] back = reused.toGrid();
+                for (int row = 0; row < Board.SIZE; row++) {
+                    for (int col = 0; col < Board.SIZE; col++) {
+                        if (back[row][col] != grid[row][col] || board.get(row, col) != grid[row][col]) {
+                            System.out.printf("FAILED: %s puzzle #%d differs at (%d, %d)%n", difficulty, i + 1,
+                                    row, col);
+                            failures++;
+                        }
+                    }
+                }
+            }
+            System.out.printf("Board round trip on %s: %d puzzles checked%n", difficulty, puzzles.size());
+        }
+
+        System.out.println(failures == 0 ? "All board checks passed" : failures + " board checks failed");
+    }
+
+    private static int expectValid(String name, int[][] board, boolean expected) {
+        if (BoardGeometry.isValidBoard(board) != expected) {
+            System.out.println("FAILED: " + name + " should be " + (expected ? "valid" : "invalid"));
+            return 1;
+        }
+        return 0;
+    }
+}
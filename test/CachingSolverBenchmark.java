@@ -0,0 +1,153 @@
+package test;
+
+import java.util.SplittableRandom;
+
+import algorithms.Backtracking;
+import algorithms.CachingSolver;
+import algorithms.ConstraintSatisfaction;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.ArrayList;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+// Cost of the canonical form against the cost of a solve, per tier.
+// The traffic of a tier is every puzzle of its file plus a number of random
+// isomorphic copies (digits relabelled, bands, stacks, rows and columns
+// shuffled, half of them transposed), in random order. Every tier runs the
+// plain solver and the cached one over the same traffic, for the constraint
+// solver and for backtracking; every answer of the cached solver is checked
+// against its puzzle. A second cached run with room
+// for only a few solutions shows the LRU evictions. The first tier is run
+// once untimed to warm up the JIT.
+//
+// Usage: java -cp <classes> test.CachingSolverBenchmark [-copies n] [-seed seed]
+public class CachingSolverBenchmark {
+    private static final int SMALL_CACHE_SOLUTIONS = 5;
+
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        String basePath = "puzzles/";
+        int copies = 9;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-copies" -> copies = Integer.parseInt(args[++i]);
+                case "-seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            List<int[][]> traffic = traffic(puzzles, copies, random);
+            if (difficulty.equals(difficulties[0])) {
+                run(new CachingSolver(new ConstraintSatisfaction()), traffic); // warm up the JIT
+            }
+            System.out.printf("%nDifficulty: %s (%d puzzles, %d requests)%n", difficulty, puzzles.size(),
+                    traffic.size());
+
+            RMIT_Sudoku_Solver plain = new ConstraintSatisfaction();
+            long startTime = System.nanoTime();
+            for (int i = 0; i < traffic.size(); i++) {
+                plain.solve(SudokuTestUtils.copy(traffic.get(i)));
+            }
+            double plainMs = (System.nanoTime() - startTime) / 1_000_000.0 / traffic.size();
+
+            CachingSolver cached = new CachingSolver(new ConstraintSatisfaction());
+            double cachedMs = run(cached, traffic);
+            double canonicalMs = cached.getCanonicalNanos() / 1_000_000.0 / traffic.size();
+            double missSolveMs = cached.getMisses() > 0
+                    ? cached.getSolveNanos() / 1_000_000.0 / cached.getMisses()
+                    : 0;
+            System.out.printf("  Plain solve:    Avg Time: %.4f ms per request%n", plainMs);
+            System.out.printf("  Cached solve:   Avg Time: %.4f ms per request (canonical form %.4f ms, "
+                    + "solve on a miss %.4f ms)%n", cachedMs, canonicalMs, missSolveMs);
+            System.out.print("  ");
+            cached.printStatistics();
+
+            // A slower solver, where the canonical form is cheap in comparison
+            RMIT_Sudoku_Solver backtracking = new Backtracking();
+            startTime = System.nanoTime();
+            for (int i = 0; i < traffic.size(); i++) {
+                backtracking.solve(SudokuTestUtils.copy(traffic.get(i)));
+            }
+            double backtrackingMs = (System.nanoTime() - startTime) / 1_000_000.0 / traffic.size();
+            double cachedBacktrackingMs = run(new CachingSolver(new Backtracking()), traffic);
+            System.out.printf("  Backtracking:   Avg Time: %.4f ms plain, %.4f ms cached per request%n",
+                    backtrackingMs, cachedBacktrackingMs);
+
+            CachingSolver small = new CachingSolver(new ConstraintSatisfaction(),
+                    SMALL_CACHE_SOLUTIONS * CachingSolver.entryBytes(9));
+            run(small, traffic);
+            System.out.printf("  Cache of %d solutions: ", SMALL_CACHE_SOLUTIONS);
+            small.printStatistics();
+        }
+    }
+
+    // Solve the traffic through the cache, checking every answer; returns the
+    // average time per request in ms
+    private static double run(CachingSolver solver, List<int[][]> traffic) {
+        long totalNanos = 0;
+        int wrong = 0;
+        for (int i = 0; i < traffic.size(); i++) {
+            int[][] puzzle = traffic.get(i);
+            long startTime = System.nanoTime();
+            int[][] solution = solver.solve(SudokuTestUtils.copy(puzzle));
+            totalNanos += System.nanoTime() - startTime;
+            if (!SudokuTestUtils.isSolutionOf(solution, puzzle, solver)) {
+                wrong++;
+            }
+        }
+        if (wrong > 0) {
+            System.out.println("  CachingSolver returned " + wrong + " wrong solutions");
+        }
+        return totalNanos / 1_000_000.0 / traffic.size();
+    }
+
+    // Each puzzle followed by its copies, then shuffled
+    private static List<int[][]> traffic(List<int[][]> puzzles, int copies, SplittableRandom random) {
+        int[][][] requests = new int[puzzles.size() * (copies + 1)][][];
+        int count = 0;
+        for (int i = 0; i < puzzles.size(); i++) {
+            requests[count++] = puzzles.get(i);
+            for (int c = 0; c < copies; c++) {
+                requests[count++] = isomorph(puzzles.get(i), random);
+            }
+        }
+        int[] order = BoardSizeBenchmark.permutation(requests.length, random);
+        List<int[][]> traffic = new ArrayList<>(requests.length);
+        for (int index : order) {
+            traffic.add(requests[index]);
+        }
+        return traffic;
+    }
+
+    // Time Complexity: O(N^2)
+    // Random image of a puzzle under the symmetry group of the board
+    private static int[][] isomorph(int[][] puzzle, SplittableRandom random) {
+        int size = puzzle.length;
+        int boxSize = (int) Math.round(Math.sqrt(size));
+        int[] digits = BoardSizeBenchmark.permutation(size, random);
+        int[] rows = BoardSizeBenchmark.symmetricOrder(boxSize, random);
+        int[] cols = BoardSizeBenchmark.symmetricOrder(boxSize, random);
+        boolean transpose = random.nextBoolean();
+
+        int[][] board = new int[size][size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                int value = transpose ? puzzle[cols[c]][rows[r]] : puzzle[rows[r]][cols[c]];
+                board[r][c] = value == 0 ? 0 : digits[value - 1] + 1;
+            }
+        }
+        return board;
+    }
+}
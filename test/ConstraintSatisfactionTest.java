@@ -1,6 +1,8 @@
 package test;
 
+import algorithms.Backtracking;
 import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
 import algorithms.RMIT_Sudoku_Solver;
 import structures.List;
 import utils.SudokuIOHandling;
@@ -22,9 +24,25 @@ public class ConstraintSatisfactionTest {
 
             System.out.println("\nTesting difficulty: " + difficulty);
 
-            RMIT_Sudoku_Solver csp = new ConstraintSatisfaction();
+            ConstraintSatisfaction csp = new ConstraintSatisfaction();
 
             SudokuTestUtils.testSolver(csp, puzzles, difficulty, true);
+            csp.getPropagator().printStatistics();
+            SudokuTestUtils.testUniqueness(csp, puzzles, difficulty);
+        }
+
+        // Counting needs a limit of at least 1, for every solver that can count
+        RMIT_Sudoku_Solver[] counters = { new Backtracking(), new ConstraintSatisfaction(), new DancingLinks() };
+        for (RMIT_Sudoku_Solver counter : counters) {
+            for (int limit : new int[] { 0, -1 }) {
+                try {
+                    counter.countSolutions(new int[9][9], limit);
+                    System.out.printf("FAILED: %s accepted limit %d%n", counter.getClass().getSimpleName(), limit);
+                } catch (IllegalArgumentException e) {
+                    System.out.printf("%s rejects limit %d: %s%n", counter.getClass().getSimpleName(), limit,
+                            e.getMessage());
+                }
+            }
         }
 
         // Additional: Solve single puzzle in details to show algorithm's operation
@@ -0,0 +1,52 @@
+package test;
+
+import algorithms.Backtracking;
+import algorithms.DancingLinks;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class DancingLinksTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        // A single instance is reused for every puzzle of every difficulty
+        RMIT_Sudoku_Solver dlx = new DancingLinks();
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            SudokuTestUtils.testSolver(dlx, puzzles, difficulty, true);
+        }
+
+        // Additional: Solve single puzzle in details to show algorithm's operation
+        int[][] puzzle = {
+                { 5, 3, 0, 0, 7, 0, 0, 0, 0 },
+                { 6, 0, 0, 1, 9, 5, 0, 0, 0 },
+                { 0, 9, 8, 0, 0, 0, 0, 6, 0 },
+                { 8, 0, 0, 0, 6, 0, 0, 0, 3 },
+                { 4, 0, 0, 8, 0, 3, 0, 0, 1 },
+                { 7, 0, 0, 0, 2, 0, 0, 0, 6 },
+                { 0, 6, 0, 0, 0, 0, 2, 8, 0 },
+                { 0, 0, 0, 4, 1, 9, 0, 0, 5 },
+                { 0, 0, 0, 0, 8, 0, 0, 7, 9 }
+        };
+        System.out.println("\n----------------------");
+        System.out.println("Sudoku puzzle example:");
+        Backtracking.printBoard(puzzle);
+        System.out.println("----------------------");
+        System.out.println("Solved solution!");
+        dlx.solve(puzzle);
+        Backtracking.printBoard(puzzle);
+    }
+}
@@ -0,0 +1,126 @@
+package test;
+
+import java.util.Arrays;
+
+import algorithms.DifficultyGrader;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.List;
+import utils.SudokuGenerator;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class DifficultyGraderTest {
+    private static final String[] TIERS = { "easy", "medium", "hard", "very_hard" };
+    private static final String[] TECHNIQUES = { "Hidden Single", "Naked Single", "Pointing/Claiming",
+            "Naked Pair", "X-Wing", "Hidden Pair", DifficultyGrader.SEARCH };
+
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+        DifficultyGrader grader = new DifficultyGrader();
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nGrading difficulty: " + difficulty);
+            int rejected = 0;
+            int agreeing = 0;
+            int routedSolved = 0;
+            double minRating = Double.MAX_VALUE;
+            double maxRating = 0;
+            double totalRating = 0;
+            int[] tiers = new int[TIERS.length];
+            int[] techniques = new int[TECHNIQUES.length];
+            for (int i = 0; i < puzzles.size(); i++) {
+                DifficultyGrader.Grade grade;
+                try {
+                    grade = grader.grade(puzzles.get(i));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    continue;
+                }
+                minRating = Math.min(minRating, grade.getRating());
+                maxRating = Math.max(maxRating, grade.getRating());
+                totalRating += grade.getRating();
+                tiers[Arrays.asList(TIERS).indexOf(grade.getTier())]++;
+                techniques[Arrays.asList(TECHNIQUES).indexOf(grade.getHardestTechnique())]++;
+                if (grade.getTier().equals(difficulty)) {
+                    agreeing++;
+                }
+
+                RMIT_Sudoku_Solver solver = grader.route(grade);
+                int[][] solution = solver.solve(SudokuTestUtils.copy(puzzles.get(i)));
+                if (solver.isValidBoard(solution)) {
+                    routedSolved++;
+                }
+            }
+
+            int graded = puzzles.size() - rejected;
+            System.out.printf("Graded %d/%d puzzles (%d rejected as invalid or unsolvable)%n", graded,
+                    puzzles.size(), rejected);
+            if (graded == 0) {
+                continue;
+            }
+            System.out.printf("Rating: avg %.2f, min %.1f, max %.1f; %d/%d graded as %s%n", totalRating / graded,
+                    minRating, maxRating, agreeing, graded, difficulty);
+            printCounts("Graded tiers", TIERS, tiers);
+            printCounts("Hardest technique", TECHNIQUES, techniques);
+            System.out.printf("Routed solvers solved %d/%d%n", routedSolved, graded);
+        }
+
+        // Bulk grading of generated puzzles, which reach further up the ladder
+        // than the puzzle files
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        SudokuGenerator generator = new SudokuGenerator(3, 42, 1);
+        List<int[][]> generated = generator.generate(count, SudokuGenerator.targetGivens("very_hard"));
+        generator.shutdown();
+
+        int[] tiers = new int[TIERS.length];
+        int[] techniques = new int[TECHNIQUES.length];
+        long startTime = System.nanoTime();
+        for (int i = 0; i < generated.size(); i++) {
+            DifficultyGrader.Grade grade = grader.grade(generated.get(i));
+            tiers[Arrays.asList(TIERS).indexOf(grade.getTier())]++;
+            techniques[Arrays.asList(TECHNIQUES).indexOf(grade.getHardestTechnique())]++;
+        }
+        long elapsed = System.nanoTime() - startTime;
+        System.out.printf("%nBulk grading: %d generated puzzles in %.2f ms, %.0f puzzles/sec%n", generated.size(),
+                elapsed / 1_000_000.0, generated.size() / (elapsed / 1_000_000_000.0));
+        printCounts("Graded tiers", TIERS, tiers);
+        printCounts("Hardest technique", TECHNIQUES, techniques);
+
+        // A well-known hard puzzle ("AI Escargot") needs search
+        int[][] escargot = parse(
+                "100007090030020008009600500005300900010080002600004000300000010040000007007000300");
+        DifficultyGrader.Grade grade = grader.grade(escargot);
+        System.out.println("\nAI Escargot: " + grade + ", " + grade.getBranches() + " branches, routed to "
+                + grader.route(grade).getClass().getSimpleName());
+        DifficultyGrader.GeneticParameters parameters = DifficultyGrader.geneticParameters(grade);
+        System.out.printf("SimpleGenetic parameters: population %d, mutation rate %.2f, %d generations%n",
+                parameters.populationSize, parameters.mutationRate, parameters.maxGenerations);
+    }
+
+    private static void printCounts(String label, String[] names, int[] counts) {
+        StringBuilder line = new StringBuilder(label).append(':');
+        for (int i = 0; i < names.length; i++) {
+            if (counts[i] > 0) {
+                line.append(' ').append(names[i]).append(' ').append(counts[i]);
+            }
+        }
+        System.out.println(line);
+    }
+
+    private static int[][] parse(String digits) {
+        int[][] board = new int[9][9];
+        for (int i = 0; i < 81; i++) {
+            board[i / 9][i % 9] = digits.charAt(i) - '0';
+        }
+        return board;
+    }
+}
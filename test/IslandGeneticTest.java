@@ -0,0 +1,42 @@
+package test;
+
+import algorithms.IslandGenetic;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SimpleGenetic;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+// Compares one SimpleGenetic population against islands of the same total
+// size and generation budget, for every migration topology
+public class IslandGeneticTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        String basePath = "puzzles/";
+        int islands = 4;
+        int totalPopulation = 600;
+        double mutationRate = 0.2;
+        int maxGenerations = 30;
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            RMIT_Sudoku_Solver single = new SimpleGenetic(totalPopulation, mutationRate, maxGenerations);
+            SudokuTestUtils.testSolver(single, puzzles, difficulty, true);
+
+            for (IslandGenetic.Topology topology : IslandGenetic.Topology.values()) {
+                RMIT_Sudoku_Solver island = new IslandGenetic(islands, totalPopulation / islands, mutationRate,
+                        maxGenerations, 5, 2, topology, 42L);
+                SudokuTestUtils.testSolver(island, puzzles, difficulty, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package test;
+
+import structures.ArrayList;
+import structures.IntArrayList;
+import structures.IntList;
+import structures.List;
+
+// Checks that the growable lists keep every element past their initial
+// capacity (the old ArrayList silently dropped anything after 1000 elements)
+public class ListStructuresTest {
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            check(list.add(i), "add " + i);
+        }
+        check(list.size() == 5000, "ArrayList size after 5000 adds: " + list.size());
+        check(list.get(4999) == 4999, "ArrayList last element");
+        check(list.insertAt(0, -1) && list.get(0) == -1 && list.get(1) == 0, "ArrayList insertAt(0)");
+        check(list.removeAt(0) && list.get(0) == 0, "ArrayList removeAt(0)");
+        check(list.remove(2500) && !list.contains(2500) && list.size() == 4999, "ArrayList remove(value)");
+        check(list.get(-1) == null && list.get(5000) == null, "ArrayList get out of range");
+
+        List<Integer> empty = new ArrayList<>(0);
+        check(empty.add(1) && empty.get(0) == 1, "ArrayList with zero initial capacity");
+
+        IntList ints = new IntArrayList(2);
+        for (int i = 0; i < 5000; i++) {
+            ints.add(i * 2);
+        }
+        check(ints.size() == 5000 && ints.get(4999) == 9998, "IntArrayList growth");
+        check(ints.contains(4000) && !ints.contains(4001), "IntArrayList contains");
+        check(ints.insertAt(1, 7) && ints.get(1) == 7 && ints.get(2) == 2, "IntArrayList insertAt");
+        check(ints.remove(7) && ints.get(1) == 2, "IntArrayList remove(value)");
+        check(ints.set(0, 42) && ints.get(0) == 42 && !ints.set(5000, 1), "IntArrayList set");
+
+        int count = 0;
+        ints.reset();
+        while (ints.hasNext()) {
+            ints.next();
+            count++;
+        }
+        check(count == 5000, "IntArrayList iteration");
+
+        ints.clear();
+        check(ints.isEmpty() && ints.add(3) && ints.get(0) == 3, "IntArrayList clear and reuse");
+        try {
+            ints.get(1);
+            check(false, "IntArrayList get out of range should throw");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        System.out.println(failures == 0 ? "All list checks passed" : failures + " list checks failed");
+    }
+
+    private static void check(boolean condition, String description) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAILED: " + description);
+        }
+    }
+}
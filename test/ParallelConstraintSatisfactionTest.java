@@ -0,0 +1,58 @@
+package test;
+
+import algorithms.ConstraintSatisfaction;
+import algorithms.ParallelConstraintSatisfaction;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class ParallelConstraintSatisfactionTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            RMIT_Sudoku_Solver parallel = new ParallelConstraintSatisfaction();
+            SudokuTestUtils.testSolver(parallel, puzzles, difficulty, true);
+        }
+
+        // Additional: a puzzle with consistent givens but no solution, where the
+        // whole search tree has to be exhausted
+        int[][] puzzle = {
+                { 0, 0, 9, 0, 2, 8, 7, 0, 0 },
+                { 8, 0, 6, 0, 0, 4, 0, 0, 5 },
+                { 0, 0, 3, 0, 0, 0, 0, 0, 4 },
+                { 6, 0, 0, 0, 0, 0, 0, 0, 0 },
+                { 0, 2, 0, 7, 1, 3, 4, 5, 0 },
+                { 0, 0, 0, 0, 0, 0, 0, 0, 2 },
+                { 3, 0, 0, 0, 0, 0, 5, 0, 0 },
+                { 9, 0, 0, 4, 0, 0, 8, 0, 7 },
+                { 0, 0, 1, 2, 5, 0, 3, 0, 0 }
+        };
+        System.out.println("\n----------------------");
+        System.out.println("Unsatisfiable puzzle with valid givens:");
+        new ConstraintSatisfaction().printBoard(puzzle);
+        RMIT_Sudoku_Solver[] solvers = { new ConstraintSatisfaction(), new ParallelConstraintSatisfaction() };
+        for (RMIT_Sudoku_Solver solver : solvers) {
+            long startTime = System.nanoTime();
+            try {
+                solver.solve(SudokuTestUtils.copy(puzzle));
+                System.out.printf("%s unexpectedly solved the puzzle%n", solver.getClass().getSimpleName());
+            } catch (RuntimeException e) {
+                System.out.printf("%s: %s (%.4f ms)%n", solver.getClass().getSimpleName(), e.getMessage(),
+                        (System.nanoTime() - startTime) / 1_000_000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package test;
+
+import algorithms.PopulationSort;
+import algorithms.SimpleGenetic;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+// Per-generation cost of SimpleGenetic with each population ranking strategy.
+// Every strategy runs with the same seed on the same puzzles, and the total
+// solve time is divided by the number of generations actually run.
+public class PopulationSortBenchmark {
+    public static void main(String[] args) {
+        String puzzleFile = "puzzles/very_hard_puzzles.txt";
+        List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+        if (puzzles == null) {
+            System.out.println("Error loading " + puzzleFile);
+            return;
+        }
+
+        int[] populationSizes = { 600, 2000 };
+        int maxGenerations = 30;
+        double mutationRate = 0.2;
+
+        for (int populationSize : populationSizes) {
+            System.out.println("\nPopulation size: " + populationSize);
+            for (PopulationSort sort : PopulationSort.values()) {
+                SimpleGenetic genetic = new SimpleGenetic(populationSize, mutationRate, maxGenerations, sort,
+                        42L, false);
+
+                // Warm up the JIT on the first puzzle before timing
+                genetic.solve(SudokuTestUtils.copy(puzzles.get(0)));
+
+                long totalTime = 0;
+                long generations = 0;
+                int solved = 0;
+                for (int i = 0; i < puzzles.size(); i++) {
+                    long startTime = System.nanoTime();
+                    int[][] result = genetic.solve(SudokuTestUtils.copy(puzzles.get(i)));
+                    totalTime += System.nanoTime() - startTime;
+                    generations += genetic.getGenerationCount();
+                    if (isComplete(result) && genetic.isValidBoard(result)) {
+                        solved++;
+                    }
+                }
+                System.out.printf("%-12s %d/%d solved, %d generations, %.4f ms/generation%n", sort, solved,
+                        puzzles.size(), generations, totalTime / 1_000_000.0 / Math.max(1, generations));
+            }
+        }
+    }
+
+    private static boolean isComplete(int[][] board) {
+        for (int[] row : board) {
+            for (int value : row) {
+                if (value == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package test;
+
+import algorithms.Backtracking;
+import algorithms.PortfolioSolver;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SolveContext;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class PortfolioSolverTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        PortfolioSolver portfolio = new PortfolioSolver();
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            portfolio.setTier(difficulty);
+            SudokuTestUtils.testSolver(portfolio, puzzles, difficulty, true);
+        }
+
+        System.out.println("\nWinning strategy per tier:");
+        portfolio.printStatistics();
+
+        // Additional: a puzzle built against naive backtracking (its first row
+        // solution is 987654321), where the portfolio falls back on the other
+        // strategies instead of waiting for the slowest one
+        int[][] puzzle = {
+                { 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                { 0, 0, 0, 0, 0, 3, 0, 8, 5 },
+                { 0, 0, 1, 0, 2, 0, 0, 0, 0 },
+                { 0, 0, 0, 5, 0, 7, 0, 0, 0 },
+                { 0, 0, 4, 0, 0, 0, 1, 0, 0 },
+                { 0, 9, 0, 0, 0, 0, 0, 0, 0 },
+                { 5, 0, 0, 0, 0, 0, 0, 7, 3 },
+                { 0, 0, 2, 0, 1, 0, 0, 0, 0 },
+                { 0, 0, 0, 0, 4, 0, 0, 0, 9 }
+        };
+        System.out.println("\n----------------------");
+        System.out.println("Pathological puzzle for backtracking:");
+        RMIT_Sudoku_Solver backtracking = new Backtracking();
+        long startTime = System.nanoTime();
+        try {
+            backtracking.solve(SudokuTestUtils.copy(puzzle), new SolveContext(2000));
+            System.out.printf("Backtracking: solved in %.4f ms%n", (System.nanoTime() - startTime) / 1_000_000.0);
+        } catch (RuntimeException e) {
+            System.out.printf("Backtracking: %s (%.4f ms)%n", e.getMessage(),
+                    (System.nanoTime() - startTime) / 1_000_000.0);
+        }
+
+        portfolio.setTier("pathological");
+        startTime = System.nanoTime();
+        int[][] solved = portfolio.solve(SudokuTestUtils.copy(puzzle), new SolveContext(2000));
+        System.out.printf("Portfolio: %s in %.4f ms, won by %s%n",
+                portfolio.isValidBoard(solved) ? "solved" : "invalid board",
+                (System.nanoTime() - startTime) / 1_000_000.0, portfolio.getLastWinner());
+        portfolio.shutdown();
+    }
+}
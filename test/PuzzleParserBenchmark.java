@@ -0,0 +1,123 @@
+package test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import structures.List;
+import utils.MappedPuzzleReader;
+import utils.SudokuBinaryFormat;
+import utils.SudokuIOHandling;
+import utils.SudokuPuzzleReader;
+
+public class PuzzleParserBenchmark {
+    private static final int BOARD_COUNT = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        String basePath = "puzzles/";
+
+        // Collect the sample boards, then repeat them into two large dump files
+        int[][][] samples = new int[0][][];
+        for (String difficulty : difficulties) {
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(basePath + difficulty + "_puzzles.txt");
+            if (puzzles == null) {
+                continue;
+            }
+            int[][][] grown = new int[samples.length + puzzles.size()][][];
+            System.arraycopy(samples, 0, grown, 0, samples.length);
+            for (int i = 0; i < puzzles.size(); i++) {
+                grown[samples.length + i] = puzzles.get(i);
+            }
+            samples = grown;
+        }
+
+        Path spaced = Files.createTempFile("sudoku-spaced", ".txt");
+        Path oneLine = Files.createTempFile("sudoku-oneline", ".txt");
+        Path binary = Files.createTempFile("sudoku-binary", ".sdkb");
+        try {
+            writeDumps(samples, spaced, oneLine);
+            SudokuBinaryFormat.convertTextFile(oneLine.toString(), binary.toString());
+            System.out.printf("%d boards: 9-line file %.1f MB, one-line file %.1f MB, binary file %.1f MB%n",
+                    BOARD_COUNT, Files.size(spaced) / 1e6, Files.size(oneLine) / 1e6, Files.size(binary) / 1e6);
+
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.println("\nRound " + round + (round == 1 ? " (JIT warmup)" : ""));
+
+                // Existing loader: parses every board into one in-memory list
+                long startTime = System.nanoTime();
+                SudokuIOHandling.loadSudokuPuzzles(spaced.toString());
+                report("SudokuIOHandling (9-line)", Files.size(spaced), BOARD_COUNT, System.nanoTime() - startTime);
+
+                startTime = System.nanoTime();
+                long count = 0;
+                try (SudokuPuzzleReader reader = new SudokuPuzzleReader(oneLine.toString())) {
+                    Iterator<int[][]> boards = reader;
+                    while (boards.hasNext()) {
+                        boards.next();
+                        count++;
+                    }
+                }
+                report("SudokuPuzzleReader (one-line)", Files.size(oneLine), count, System.nanoTime() - startTime);
+
+                try (MappedPuzzleReader reader = new MappedPuzzleReader(oneLine)) {
+                    long[] checksum = { 0 };
+                    startTime = System.nanoTime();
+                    count = reader.forEach(cells -> checksum[0] += cells[80]);
+                    report("MappedPuzzleReader", reader.getFileSize(), count, System.nanoTime() - startTime);
+
+                    AtomicLong parallelChecksum = new AtomicLong();
+                    startTime = System.nanoTime();
+                    count = reader.parallelForEach(ForkJoinPool.commonPool(),
+                            () -> cells -> parallelChecksum.addAndGet(cells[80]));
+                    report("MappedPuzzleReader (parallel)", reader.getFileSize(), count,
+                            System.nanoTime() - startTime);
+                }
+
+                try (SudokuBinaryFormat.Reader reader = new SudokuBinaryFormat.Reader(binary)) {
+                    long[] checksum = { 0 };
+                    startTime = System.nanoTime();
+                    reader.forEach((index, board) -> checksum[0] += board[8][8]);
+                    report("SudokuBinaryFormat", Files.size(binary), reader.getRecordCount(),
+                            System.nanoTime() - startTime);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(spaced);
+            Files.deleteIfExists(oneLine);
+            Files.deleteIfExists(binary);
+        }
+    }
+
+    private static void writeDumps(int[][][] samples, Path spaced, Path oneLine) throws IOException {
+        try (BufferedWriter spacedWriter = Files.newBufferedWriter(spaced);
+                BufferedWriter oneLineWriter = Files.newBufferedWriter(oneLine)) {
+            StringBuilder line = new StringBuilder(81);
+            for (int i = 0; i < BOARD_COUNT; i++) {
+                int[][] board = samples[i % samples.length];
+                line.setLength(0);
+                for (int row = 0; row < 9; row++) {
+                    for (int col = 0; col < 9; col++) {
+                        spacedWriter.write(col == 0 ? "" : " ");
+                        spacedWriter.write('0' + board[row][col]);
+                        line.append((char) ('0' + board[row][col]));
+                    }
+                    spacedWriter.newLine();
+                }
+                spacedWriter.newLine();
+                oneLineWriter.write(line.toString());
+                oneLineWriter.newLine();
+            }
+        }
+    }
+
+    private static void report(String name, long bytes, long boards, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-32s %8.1f MB/s %12.0f boards/s%n", name, bytes / 1e6 / seconds, boards / seconds);
+    }
+}
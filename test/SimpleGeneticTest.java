@@ -1,5 +1,8 @@
 package test;
 
+import java.util.Arrays;
+
+import algorithms.PopulationSort;
 import algorithms.SimpleGenetic;
 import algorithms.RMIT_Sudoku_Solver;
 import structures.List;
@@ -26,7 +29,7 @@ public class SimpleGeneticTest {
             System.out.println("\nTesting difficulty: " + difficulty);
 
             RMIT_Sudoku_Solver SimpleGenetic = new SimpleGenetic(100, 0.2,
-                    10, "Merge Sort");
+                    10);
 
             SudokuTestUtils.testSolver(SimpleGenetic, puzzles, difficulty, true);
         }
@@ -47,8 +50,15 @@ public class SimpleGeneticTest {
         System.out.println("Initial puzzle: ");
         SimpleGenetic.printBoard(puzzle);
         SimpleGenetic SimpleGeneticDetails = new SimpleGenetic(1000, 0.2,
-                10, "Merge Sort");
+                10);
         SimpleGeneticDetails.SolveDetails(puzzle, true);
 
+        // Additional: the same seed must give the same board, sequentially or in parallel
+        System.out.println("\nSeeded runs:");
+        int[][] sequential = new SimpleGenetic(600, 0.2, 10, PopulationSort.QUICKSELECT, 42L, false).solve(puzzle);
+        int[][] parallel = new SimpleGenetic(600, 0.2, 10, PopulationSort.QUICKSELECT, 42L, true).solve(puzzle);
+        System.out.println("Sequential and parallel runs with seed 42 are "
+                + (Arrays.deepEquals(sequential, parallel) ? "identical" : "DIFFERENT"));
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package test;
+
+import algorithms.PopulationSort;
+import algorithms.SimpleGenetic;
+import algorithms.SimulatedAnnealing;
+import structures.List;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class SimulatedAnnealingTest {
+    public static void main(String[] args) {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        SimulatedAnnealing annealing = new SimulatedAnnealing(200_000, 10, 42L);
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+            SudokuTestUtils.testSolver(annealing, puzzles, difficulty, true);
+
+            // Convergence metrics, averaged over the puzzles of the tier
+            long iterations = 0;
+            long restarts = 0;
+            long reheats = 0;
+            double acceptance = 0;
+            long nanosToBest = 0;
+            int measured = 0;
+            for (int i = 0; i < puzzles.size(); i++) {
+                try {
+                    annealing.solve(SudokuTestUtils.copy(puzzles.get(i)));
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                SimulatedAnnealing.ConvergenceStats stats = annealing.getLastStats();
+                iterations += stats.getIterations();
+                restarts += stats.getRestarts();
+                reheats += stats.getReheats();
+                acceptance += stats.getAcceptanceRate();
+                nanosToBest += stats.getNanosToBest();
+                measured++;
+            }
+            if (measured > 0) {
+                System.out.printf("Average: %d iterations, %.2f restarts, %.2f reheats, %.1f%% accepted, "
+                        + "%.3f ms to best%n", iterations / measured, (double) restarts / measured,
+                        (double) reheats / measured, 100 * acceptance / measured,
+                        nanosToBest / 1_000_000.0 / measured);
+            }
+        }
+
+        // Memetic step: SimpleGenetic with and without local search on its best individuals
+        List<int[][]> hardest = SudokuIOHandling.loadSudokuPuzzles(basePath + "very_hard_puzzles.txt");
+        if (hardest != null) {
+            System.out.println("\nMemetic refinement on very_hard:");
+            SimpleGenetic plain = new SimpleGenetic(200, 0.2, 20, PopulationSort.QUICKSELECT, 42L, false);
+            SudokuTestUtils.testSolver(plain, hardest, "very_hard", true);
+
+            SimpleGenetic memetic = new SimpleGenetic(200, 0.2, 20, PopulationSort.QUICKSELECT, 42L, false);
+            memetic.enableLocalSearch(2, 500);
+            SudokuTestUtils.testSolver(memetic, hardest, "very_hard", true);
+
+            // Refinement must never move a given, solved or not: run heavy
+            // local search on every puzzle and compare every returned board
+            SimpleGenetic refined = new SimpleGenetic(100, 0.2, 10, PopulationSort.QUICKSELECT, 7L, false);
+            refined.enableLocalSearch(10, 2000);
+            int changedGivens = 0;
+            for (int i = 0; i < hardest.size(); i++) {
+                int[][] board = refined.solve(SudokuTestUtils.copy(hardest.get(i)));
+                if (!keepsGivens(board, hardest.get(i))) {
+                    changedGivens++;
+                }
+            }
+            System.out.printf("Givens kept by refinement: %d/%d boards %s%n", hardest.size() - changedGivens,
+                    hardest.size(), changedGivens == 0 ? "(OK)" : "(GIVENS CHANGED)");
+        }
+
+        // Single puzzle with its full convergence report
+        int[][] puzzle = {
+                { 5, 3, 0, 0, 7, 0, 0, 0, 0 },
+                { 6, 0, 0, 1, 9, 5, 0, 0, 0 },
+                { 0, 9, 8, 0, 0, 0, 0, 6, 0 },
+                { 8, 0, 0, 0, 6, 0, 0, 0, 3 },
+                { 4, 0, 0, 8, 0, 3, 0, 0, 1 },
+                { 7, 0, 0, 0, 2, 0, 0, 0, 6 },
+                { 0, 6, 0, 0, 0, 0, 2, 8, 0 },
+                { 0, 0, 0, 4, 1, 9, 0, 0, 5 },
+                { 0, 0, 0, 0, 8, 0, 0, 7, 9 }
+        };
+        System.out.println("\nDetails of Algorithms:");
+        SimpleGenetic.printBoard(annealing.solve(puzzle));
+        annealing.getLastStats().printSummary();
+    }
+
+    private static boolean keepsGivens(int[][] board, int[][] puzzle) {
+        for (int row = 0; row < puzzle.length; row++) {
+            for (int column = 0; column < puzzle.length; column++) {
+                if (puzzle[row][column] != 0 && board[row][column] != puzzle[row][column]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
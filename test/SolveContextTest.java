@@ -0,0 +1,82 @@
+package test;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.ParallelConstraintSatisfaction;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SolveCancelledException;
+import algorithms.SolveContext;
+import algorithms.SolveTimeoutException;
+import utils.SudokuTestUtils;
+
+public class SolveContextTest {
+    public static void main(String[] args) throws InterruptedException {
+        // A puzzle that takes plain Backtracking a long time
+        int[][] puzzle = {
+                { 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                { 0, 0, 0, 0, 0, 3, 0, 8, 5 },
+                { 0, 0, 1, 0, 2, 0, 0, 0, 0 },
+                { 0, 0, 0, 5, 0, 7, 0, 0, 0 },
+                { 0, 0, 4, 0, 0, 0, 1, 0, 0 },
+                { 0, 9, 0, 0, 0, 0, 0, 0, 0 },
+                { 5, 0, 0, 0, 0, 0, 0, 7, 3 },
+                { 0, 0, 2, 0, 1, 0, 0, 0, 0 },
+                { 0, 0, 0, 0, 4, 0, 0, 0, 9 }
+        };
+
+        // 1. Configurable budget: stop after 200 ms
+        RMIT_Sudoku_Solver backtracking = new Backtracking();
+        long startTime = System.nanoTime();
+        try {
+            backtracking.solve(SudokuTestUtils.copy(puzzle), new SolveContext(200));
+            System.out.println("Backtracking solved the puzzle within 200 ms");
+        } catch (SolveTimeoutException e) {
+            System.out.printf("Timeout after %.1f ms: %s%n", (System.nanoTime() - startTime) / 1_000_000.0,
+                    e.getMessage());
+        }
+
+        // 2. Cancellation from another thread
+        SolveContext context = new SolveContext(60000);
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            context.cancel();
+        });
+        canceller.start();
+        startTime = System.nanoTime();
+        try {
+            backtracking.solve(SudokuTestUtils.copy(puzzle), context);
+            System.out.println("Backtracking solved the puzzle before being cancelled");
+        } catch (SolveCancelledException e) {
+            System.out.printf("Cancelled after %.1f ms: %s%n", (System.nanoTime() - startTime) / 1_000_000.0,
+                    e.getMessage());
+        }
+        canceller.join();
+
+        // 3. The same puzzle well within budget for Constraint Satisfaction
+        RMIT_Sudoku_Solver csp = new ConstraintSatisfaction();
+        int[][] solved = csp.solve(SudokuTestUtils.copy(puzzle), new SolveContext(200));
+        System.out.println("Constraint Satisfaction solved it within 200 ms: " + csp.isValidBoard(solved));
+
+        // 4. A 16x16 solve reads the clock more often, but only while it runs:
+        // the context passed in keeps its check interval for the next solve
+        SolveContext shared = new SolveContext(10000);
+        RMIT_Sudoku_Solver[] constraintSolvers = { csp, new ParallelConstraintSatisfaction() };
+        for (RMIT_Sudoku_Solver solver : constraintSolvers) {
+            solver.solve(new int[16][16], shared);
+        }
+        csp.countSolutions(new int[16][16], 1, shared);
+        System.out.println("Check interval after three 16x16 solves: " + shared.getCheckInterval() + " ("
+                + (shared.getCheckInterval() == SolveContext.DEFAULT_CHECK_INTERVAL ? "OK" : "FAILED") + ")");
+
+        // 5. A fork with its own budget is capped by its parent's deadline
+        SolveContext parent = new SolveContext(50);
+        long capped = parent.fork(10000).getBudgetMs();
+        long own = new SolveContext(10000).fork(50).getBudgetMs();
+        System.out.println("Fork budgets: " + capped + " ms under a 50 ms parent, " + own + " ms of its own ("
+                + (capped <= 50 && own == 50 ? "OK" : "FAILED") + ")");
+    }
+}
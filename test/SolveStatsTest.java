@@ -0,0 +1,142 @@
+package test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.ParallelConstraintSatisfaction;
+import algorithms.PermutationGenetic;
+import algorithms.PortfolioSolver;
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SimpleGenetic;
+import algorithms.SimulatedAnnealing;
+import algorithms.SolveContext;
+import algorithms.SolveResult;
+import algorithms.SolveStats;
+import structures.List;
+import utils.LatencyHistogram;
+import utils.SolverStatistics;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class SolveStatsTest {
+    public static void main(String[] args) {
+        checkHistogram();
+        checkContextReuse();
+
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        String basePath = "puzzles/";
+        String[] names = { "Backtracking", "ConstraintSatisfaction", "ParallelConstraintSatisfaction",
+                "DancingLinks", "SimpleGenetic", "PermutationGenetic", "SimulatedAnnealing", "PortfolioSolver" };
+        PortfolioSolver portfolio = new PortfolioSolver();
+        RMIT_Sudoku_Solver[] solvers = { new Backtracking(), new ConstraintSatisfaction(),
+                new ParallelConstraintSatisfaction(), new DancingLinks(),
+                new SimpleGenetic(600, 3.2, 30), new PermutationGenetic(600, 3.2, 30),
+                new SimulatedAnnealing(200_000, 10, 42L), portfolio };
+        SolverStatistics[] statistics = new SolverStatistics[solvers.length];
+
+        for (int s = 0; s < solvers.length; s++) {
+            statistics[s] = new SolverStatistics();
+            int inconsistent = 0;
+            for (String difficulty : difficulties) {
+                List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(basePath + difficulty + "_puzzles.txt");
+                if (puzzles == null) {
+                    System.out.println("Error loading " + difficulty + " puzzles");
+                    continue;
+                }
+                for (int i = 0; i < puzzles.size(); i++) {
+                    int[][] puzzle = SudokuTestUtils.copy(puzzles.get(i));
+                    SolveResult result = solvers[s].solveWithStats(puzzle);
+                    boolean solved = SudokuTestUtils.isSolutionOf(result.getSolution(), puzzles.get(i), solvers[s]);
+                    if (!isConsistent(result.getStats(), emptyCells(puzzles.get(i)))) {
+                        inconsistent++;
+                    }
+                    statistics[s].record(difficulty, result.getStats(), solved);
+                }
+            }
+            System.out.println();
+            statistics[s].printSummary(names[s]);
+            if (inconsistent > 0) {
+                System.out.println("  " + inconsistent + " solves with inconsistent counters");
+            }
+        }
+        portfolio.shutdown();
+
+        // Cost of the counters: time per search node of plain backtracking,
+        // where a node is the cheapest unit of work of any solver
+        List<int[][]> hard = SudokuIOHandling.loadSudokuPuzzles(basePath + "very_hard_puzzles.txt");
+        if (hard != null) {
+            RMIT_Sudoku_Solver backtracking = new Backtracking();
+            long nodes = 0;
+            long nanos = 0;
+            for (int i = 0; i < hard.size(); i++) {
+                SolveStats stats = backtracking.solveWithStats(SudokuTestUtils.copy(hard.get(i))).getStats();
+                nodes += stats.getNodes();
+                nanos += stats.getWallNanos();
+            }
+            System.out.printf("%nBacktracking on very_hard: %d nodes, %.1f ns per node with the counters on%n",
+                    nodes, (double) nanos / nodes);
+        }
+    }
+
+    // Two solves with the same context: the second starts from zero counters
+    // and does not change the result of the first
+    private static void checkContextReuse() {
+        List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles("puzzles/very_hard_puzzles.txt");
+        if (puzzles == null) {
+            System.out.println("Error loading very_hard puzzles");
+            return;
+        }
+        RMIT_Sudoku_Solver solver = new Backtracking();
+        SolveContext context = new SolveContext();
+        SolveResult first = solver.solveWithStats(SudokuTestUtils.copy(puzzles.get(0)), context);
+        long firstNodes = first.getStats().getNodes();
+        SolveResult second = solver.solveWithStats(SudokuTestUtils.copy(puzzles.get(0)), context);
+        boolean ok = first.getStats().getNodes() == firstNodes && second.getStats().getNodes() == firstNodes
+                && context.getStats().getNodes() == firstNodes;
+        System.out.printf("Context reuse: %d nodes per solve, %s%n", firstNodes, ok ? "(OK)" : "(counters leaked)");
+    }
+
+    // Depth never exceeds the empty cells, backtracks never exceed nodes
+    private static boolean isConsistent(SolveStats stats, int emptyCells) {
+        return stats.getMaxDepth() <= emptyCells && stats.getBacktracks() <= stats.getNodes()
+                && stats.getWallNanos() > 0 && (stats.getNodes() > 0 || stats.getEvaluations() > 0);
+    }
+
+    private static int emptyCells(int[][] puzzle) {
+        int count = 0;
+        for (int[] row : puzzle) {
+            for (int value : row) {
+                if (value == 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Percentiles of the histogram against the exact ones of a sorted sample
+    private static void checkHistogram() {
+        SplittableRandom random = new SplittableRandom(42);
+        int count = 100_000;
+        long[] values = new long[count];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < count; i++) {
+            // Log-normal latencies around 50 us with a long tail
+            values[i] = (long) (50_000 * Math.exp(random.nextGaussian() * 1.5));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        double worstError = 0;
+        for (double p : new double[] { 0.5, 0.9, 0.99, 0.999, 1.0 }) {
+            long exact = values[(int) Math.ceil(p * count) - 1];
+            long estimate = histogram.percentile(p);
+            worstError = Math.max(worstError, Math.abs(estimate - exact) / (double) exact);
+        }
+        System.out.printf("LatencyHistogram: %d values, %s, worst percentile error %.2f%% %s%n", count,
+                histogram.summary(), 100 * worstError, worstError <= 1.0 / 32 ? "(OK)" : "(too large)");
+    }
+}
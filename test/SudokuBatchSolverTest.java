@@ -0,0 +1,92 @@
+package test;
+
+import algorithms.Backtracking;
+import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.SolveContext;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import structures.List;
+import utils.SudokuBatchSolver;
+import utils.SudokuIOHandling;
+
+public class SudokuBatchSolverTest {
+    public static void main(String[] args) throws IOException {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        // One solver instance per worker thread, created by the factory
+        SudokuBatchSolver cspBatch = new SudokuBatchSolver(ConstraintSatisfaction::new);
+        SudokuBatchSolver dlxBatch = new SudokuBatchSolver(DancingLinks::new);
+        SudokuBatchSolver singleThread = new SudokuBatchSolver(ConstraintSatisfaction::new, 1);
+        System.out.println("Worker threads: " + cspBatch.getParallelism());
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            singleThread.solveAll(puzzles).printSummary(difficulty + " (1 thread)");
+            cspBatch.solveAll(puzzles).printSummary(difficulty);
+            dlxBatch.solveAll(puzzles).printSummary(difficulty);
+        }
+
+        // Stream every file lazily instead of loading it into a list
+        System.out.println("\nStreaming puzzle files:");
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            try (Stream<int[][]> stream = SudokuIOHandling.streamSudokuPuzzles(puzzleFile)) {
+                Iterator<int[][]> puzzles = stream.iterator();
+                SudokuBatchSolver.StreamSummary summary = cspBatch.solveStream(puzzles, 8,
+                        (index, puzzle, solution, latencyNanos, error) -> {
+                            if (solution == null) {
+                                System.out.printf("%s puzzle #%d not solved: %s%n", difficulty, index + 1, error);
+                            }
+                        });
+                summary.printSummary(puzzleFile);
+            }
+        }
+
+        // Per-puzzle budget: plain backtracking gets 1 ms per very hard puzzle,
+        // the slow puzzles time out on their own and the others still solve
+        System.out.println("\nBudgets and cancellation:");
+        List<int[][]> veryHard = SudokuIOHandling.loadSudokuPuzzles(basePath + "very_hard_puzzles.txt");
+        SudokuBatchSolver budgeted = new SudokuBatchSolver(Backtracking::new, 2, 1);
+        SudokuBatchSolver.BatchResult result = budgeted.solveAll(veryHard);
+        int timeouts = 0;
+        for (int i = 0; i < result.size(); i++) {
+            if (result.getError(i) != null && result.getError(i).contains("time limit")) {
+                timeouts++;
+            }
+        }
+        System.out.printf("1 ms per puzzle: %d solved, %d timed out, %d other errors%n", result.getSolvedCount(),
+                timeouts, result.size() - result.getSolvedCount() - timeouts);
+
+        // A cancelled batch context fails every puzzle without solving it
+        SolveContext batch = new SolveContext(60000);
+        batch.cancel();
+        result = cspBatch.solveAll(veryHard, batch);
+        System.out.printf("Cancelled batch: %d/%d solved (%s)%n", result.getSolvedCount(), result.size(),
+                result.getSolvedCount() == 0 ? "OK" : "FAILED");
+        try (Stream<int[][]> stream = SudokuIOHandling.streamSudokuPuzzles(basePath + "easy_puzzles.txt")) {
+            SudokuBatchSolver.StreamSummary summary = cspBatch.solveStream(stream.iterator(), 8,
+                    (index, puzzle, solution, latencyNanos, error) -> {
+                    }, batch);
+            System.out.printf("Cancelled stream: %d puzzles read (%s)%n", summary.getCount(),
+                    summary.getCount() == 0 ? "OK" : "FAILED");
+        }
+
+        budgeted.shutdown();
+        singleThread.shutdown();
+        cspBatch.shutdown();
+        dlxBatch.shutdown();
+    }
+}
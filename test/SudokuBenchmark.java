@@ -2,9 +2,13 @@ package test;
 
 import algorithms.Backtracking;
 import algorithms.ConstraintSatisfaction;
+import algorithms.DancingLinks;
+import algorithms.DifficultyGrader;
+import algorithms.PermutationGenetic;
 import algorithms.SimpleGenetic;
 import algorithms.RMIT_Sudoku_Solver;
 import structures.List;
+import utils.SolverStatistics;
 import utils.SudokuIOHandling;
 import utils.SudokuTestUtils;
 
@@ -12,6 +16,14 @@ public class SudokuBenchmark {
     public static void main(String[] args) {
         String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
         String basePath = "puzzles/";
+        DifficultyGrader grader = new DifficultyGrader();
+
+        // Latencies and search counters of every solver, per tier
+        SolverStatistics backtrackingStatistics = new SolverStatistics();
+        SolverStatistics geneticStatistics = new SolverStatistics();
+        SolverStatistics permutationGeneticStatistics = new SolverStatistics();
+        SolverStatistics cspStatistics = new SolverStatistics();
+        SolverStatistics dlxStatistics = new SolverStatistics();
 
         for (String difficulty : difficulties) {
             String puzzleFile = basePath + difficulty + "_puzzles.txt";
@@ -26,40 +38,37 @@ public class SudokuBenchmark {
 
             // Test Backtracking Solver
             RMIT_Sudoku_Solver backtracking = new Backtracking();
-            SudokuTestUtils.testSolver(backtracking, puzzles, difficulty, true);
-
-            // Configure Genetic Solver parameters (easy)
-            int populationSize = 20;
-            double mutationRate = 0.2;
-            int maxGenerations = 10;
+            SudokuTestUtils.testSolver(backtracking, puzzles, difficulty, true, backtrackingStatistics);
 
-            // Scale parameters based on difficulty
-            switch (difficulty) {
-                case "medium" -> {
-                    populationSize *= 5;
-                    mutationRate *= 2;
-                    maxGenerations *= 1;
-                }
-                case "hard" -> {
-                    populationSize *= 20;
-                    mutationRate *= 8;
-                    maxGenerations *= 2;
-                }
-                case "very_hard", "unsolvable" -> {
-                    populationSize *= 30;
-                    mutationRate *= 16;
-                    maxGenerations *= 3;
-                }
-            }
+            // Size the Genetic Solver from the grade of the hardest puzzle
+            DifficultyGrader.GeneticParameters parameters = grader.geneticParameters(puzzles);
+            int populationSize = parameters.populationSize;
+            double mutationRate = parameters.mutationRate;
+            int maxGenerations = parameters.maxGenerations;
 
             // Test Genetic Solver
-            RMIT_Sudoku_Solver genetic = new SimpleGenetic(populationSize, mutationRate, maxGenerations,
-                    "Merge Sort");
-            SudokuTestUtils.testSolver(genetic, puzzles, difficulty, true);
+            RMIT_Sudoku_Solver genetic = new SimpleGenetic(populationSize, mutationRate, maxGenerations);
+            SudokuTestUtils.testSolver(genetic, puzzles, difficulty, true, geneticStatistics);
+
+            // Test Permutation Genetic Solver with the same parameters
+            RMIT_Sudoku_Solver permutationGenetic = new PermutationGenetic(populationSize, mutationRate,
+                    maxGenerations);
+            SudokuTestUtils.testSolver(permutationGenetic, puzzles, difficulty, true, permutationGeneticStatistics);
 
             // Test Constraint Satisfaction Solver
             RMIT_Sudoku_Solver csp = new ConstraintSatisfaction();
-            SudokuTestUtils.testSolver(csp, puzzles, difficulty, true);
+            SudokuTestUtils.testSolver(csp, puzzles, difficulty, true, cspStatistics);
+
+            // Test Dancing Links Solver
+            RMIT_Sudoku_Solver dlx = new DancingLinks();
+            SudokuTestUtils.testSolver(dlx, puzzles, difficulty, true, dlxStatistics);
         }
+
+        System.out.println("\nLatency per tier:");
+        backtrackingStatistics.printSummary("Backtracking");
+        geneticStatistics.printSummary("SimpleGenetic");
+        permutationGeneticStatistics.printSummary("PermutationGenetic");
+        cspStatistics.printSummary("ConstraintSatisfaction");
+        dlxStatistics.printSummary("DancingLinks");
     }
-}
\ No newline at end of file
+}
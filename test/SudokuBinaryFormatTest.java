@@ -0,0 +1,114 @@
+package test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import structures.List;
+import utils.SudokuBinaryFormat;
+import utils.SudokuIOHandling;
+
+public class SudokuBinaryFormatTest {
+    public static void main(String[] args) throws IOException {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard", "unsolvable" };
+        String basePath = "puzzles/";
+
+        for (String difficulty : difficulties) {
+            String puzzleFile = basePath + difficulty + "_puzzles.txt";
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(puzzleFile);
+
+            if (puzzles == null) {
+                System.out.println("Error loading " + difficulty + " puzzles");
+                continue;
+            }
+
+            System.out.println("\nTesting difficulty: " + difficulty);
+
+            Path binaryFile = Files.createTempFile(difficulty, ".sdkb");
+            try {
+                long count = SudokuBinaryFormat.convertTextFile(puzzleFile, binaryFile.toString());
+                System.out.printf("Converted %d boards: %d bytes as text, %d bytes as binary%n", count,
+                        Files.size(Path.of(puzzleFile)), Files.size(binaryFile));
+
+                try (SudokuBinaryFormat.Reader reader = new SudokuBinaryFormat.Reader(binaryFile)) {
+                    // Random access by index, last record first
+                    int mismatches = 0;
+                    for (long i = reader.getRecordCount() - 1; i >= 0; i--) {
+                        if (!sameBoard(reader.read(i), puzzles.get((int) i))) {
+                            mismatches++;
+                        }
+                    }
+
+                    // Sequential read into one reusable board
+                    int[] sequentialMismatches = { 0 };
+                    reader.forEach((index, board) -> {
+                        if (!sameBoard(board, puzzles.get((int) index))) {
+                            sequentialMismatches[0]++;
+                        }
+                    });
+                    System.out.printf("Round trip: %d/%d random access and %d/%d sequential boards match%n",
+                            reader.getRecordCount() - mismatches, reader.getRecordCount(),
+                            reader.getRecordCount() - sequentialMismatches[0], reader.getRecordCount());
+                }
+            } finally {
+                Files.deleteIfExists(binaryFile);
+            }
+        }
+
+        System.out.println("\nTesting board sizes other than 9x9");
+        int rejected = 0;
+        rejected += expectRejected("encode 16x16", () -> SudokuBinaryFormat.encode(new int[16][16],
+                new byte[SudokuBinaryFormat.RECORD_SIZE], 0));
+        rejected += expectRejected("encode 4x4", () -> SudokuBinaryFormat.encode(new int[4][4],
+                new byte[SudokuBinaryFormat.RECORD_SIZE], 0));
+        rejected += expectRejected("encode ragged 9x9", () -> SudokuBinaryFormat.encode(
+                new int[][] { new int[9], new int[9], new int[9], new int[9], new int[9], new int[9],
+                        new int[9], new int[9], new int[8] },
+                new byte[SudokuBinaryFormat.RECORD_SIZE], 0));
+        rejected += expectRejected("decode into 16x16", () -> SudokuBinaryFormat.decode(
+                new byte[SudokuBinaryFormat.RECORD_SIZE], 0, new int[16][16]));
+
+        // A 16x16 board in the one-line format, after one 9x9 board
+        Path textFile = Files.createTempFile("mixed", ".txt");
+        Path binaryFile = Files.createTempFile("mixed", ".sdkb");
+        try {
+            Files.writeString(textFile, "0".repeat(81) + "\n" + "0".repeat(256) + "\n");
+            rejected += expectRejected("convert a 16x16 text file",
+                    () -> SudokuBinaryFormat.convertTextFile(textFile.toString(), binaryFile.toString()));
+            if (Files.exists(binaryFile)) {
+                System.out.println("FAILED: partial binary file left after a rejected conversion");
+                rejected--;
+            }
+        } finally {
+            Files.deleteIfExists(textFile);
+            Files.deleteIfExists(binaryFile);
+        }
+        System.out.printf("Rejected %d/5 non-9x9 boards%n", rejected);
+    }
+
+    private interface Action {
+        void run() throws IOException;
+    }
+
+    private static int expectRejected(String name, Action action) throws IOException {
+        try {
+            action.run();
+        } catch (IllegalArgumentException e) {
+            System.out.println(name + ": " + e.getMessage());
+            return 1;
+        }
+        System.out.println("FAILED: " + name + " was accepted");
+        return 0;
+    }
+
+    private static boolean sameBoard(int[][] a, int[][] b) {
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                if (a[row][col] != b[row][col]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
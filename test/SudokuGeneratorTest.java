@@ -0,0 +1,68 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import algorithms.DancingLinks;
+import algorithms.RMIT_Sudoku_Solver;
+import structures.List;
+import utils.SudokuGenerator;
+import utils.SudokuIOHandling;
+import utils.SudokuTestUtils;
+
+public class SudokuGeneratorTest {
+    public static void main(String[] args) throws IOException {
+        String[] difficulties = { "easy", "medium", "hard", "very_hard" };
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        RMIT_Sudoku_Solver checker = new DancingLinks();
+
+        for (String difficulty : difficulties) {
+            System.out.println("\nGenerating difficulty: " + difficulty);
+            int target = SudokuGenerator.targetGivens(difficulty);
+            SudokuGenerator generator = new SudokuGenerator(3, 42, parallelism);
+
+            // Write to a file, read it back and check every puzzle independently
+            File file = File.createTempFile("generated_" + difficulty, ".txt");
+            file.deleteOnExit();
+            SudokuGenerator.GenerationSummary summary = generator.generateToFile(file.getPath(), count, target);
+            summary.printSummary(target + " givens");
+
+            List<int[][]> puzzles = SudokuIOHandling.loadSudokuPuzzles(file.getPath());
+            int unique = 0;
+            for (int i = 0; i < puzzles.size(); i++) {
+                if (checker.countSolutions(puzzles.get(i), 2) == 1) {
+                    unique++;
+                }
+            }
+            System.out.printf("Read back %d/%d puzzles, %d with a unique solution%n", puzzles.size(), count,
+                    unique);
+            SudokuTestUtils.testSolver(checker, puzzles, difficulty, true);
+            generator.shutdown();
+        }
+
+        // Same seed, different parallelism: the same puzzles
+        SudokuGenerator sequential = new SudokuGenerator(3, 7, 1);
+        SudokuGenerator parallel = new SudokuGenerator(3, 7, Math.max(2, parallelism));
+        List<int[][]> first = sequential.generate(100, 30);
+        List<int[][]> second = parallel.generate(100, 30);
+        int identical = 0;
+        for (int i = 0; i < first.size(); i++) {
+            if (Arrays.deepEquals(first.get(i), second.get(i))) {
+                identical++;
+            }
+        }
+        System.out.printf("%nReproducibility: %d/%d puzzles identical with parallelism 1 and %d%n", identical,
+                first.size(), parallel.getParallelism());
+        sequential.shutdown();
+        parallel.shutdown();
+
+        // Additional: a larger board, to show the generator is not tied to 9x9
+        SudokuGenerator large = new SudokuGenerator(4, 42, parallelism);
+        int[][] puzzle = large.generate(140);
+        System.out.println("\n16x16 puzzle, unique: " + (checker.countSolutions(puzzle, 2) == 1));
+        System.out.print(SudokuIOHandling.formatBoard(puzzle));
+        large.shutdown();
+    }
+}
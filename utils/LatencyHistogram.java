@@ -0,0 +1,98 @@
+package utils;
+
+// Log-linear histogram of latencies in nanoseconds.
+// Every power of two is split into SUB_BUCKETS linear buckets, so a recorded
+// value is known to within 1/SUB_BUCKETS (about 3%) whatever its magnitude,
+// from 1 ns up to 2^MAX_EXPONENT ns (about 18 minutes; longer values land in
+// the last bucket). Recording is a few shifts and one array increment, and
+// the memory is fixed, so a histogram can stay on for every solve.
+// The exact maximum is kept next to the buckets. Not thread-safe.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+
+    private final long[] buckets = new long[(MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    // Time Complexity: O(1)
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)]++;
+        count++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    // Values below SUB_BUCKETS have a bucket each; above, the bucket is the
+    // power of two and the next SUB_BUCKET_BITS bits below the leading one
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT) - SUB_BUCKET_BITS;
+        int sub = (int) Math.min(value >>> shift, 2 * SUB_BUCKETS - 1) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    // Largest value that falls in a bucket
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    // Time Complexity: O(B) for B buckets
+    // Latency below which a fraction p (0..1) of the values fall, as the upper
+    // bound of its bucket capped at the exact maximum; 0 when nothing was recorded
+    public long percentile(double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    // Add the values of another histogram
+    public void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] += other.buckets[bucket];
+        }
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count > 0 ? (double) totalNanos / count : 0;
+    }
+
+    // p50/p90/p99/max in ms, e.g. for a report line
+    public String summary() {
+        return String.format("p50: %.4f ms, p90: %.4f ms, p99: %.4f ms, Max: %.4f ms", percentile(0.5) / 1_000_000.0,
+                percentile(0.9) / 1_000_000.0, percentile(0.99) / 1_000_000.0, maxNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,192 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+// Zero-copy reader for large dumps in the 81-character one-line format.
+// The file is memory-mapped region by region and every record is parsed
+// straight from the mapped bytes into a reusable int[81] board (row-major,
+// 0 for empty, '.' accepted as empty), so no String or per-board object is
+// created. Records end with '\n' or "\r\n"; blank lines are skipped.
+// The file can also be split into regions at line boundaries and parsed by
+// several threads, each with its own board and consumer.
+public class MappedPuzzleReader implements Closeable {
+    public static final int CELL_COUNT = 81;
+
+    // Regions are mapped separately, which also lifts the 2 GB limit of a
+    // single MappedByteBuffer
+    private static final long MAX_REGION_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final String source;
+
+    // Receives every board; the cells array is reused, copy it to keep it
+    public interface BoardConsumer {
+        void accept(int[] cells);
+    }
+
+    public MappedPuzzleReader(String filename) throws IOException {
+        this(Paths.get(filename));
+    }
+
+    public MappedPuzzleReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.source = path.toString();
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    // Parse the whole file on the calling thread, return the number of boards
+    public long forEach(BoardConsumer consumer) throws IOException {
+        long[] bounds = splitRegions(Math.max(1, (int) ((fileSize + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE)));
+        int[] cells = new int[CELL_COUNT];
+        long count = 0;
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            count += parseRegion(bounds[i], bounds[i + 1], cells, consumer);
+        }
+        return count;
+    }
+
+    // Parse the file in parallel on a ForkJoinPool, one consumer per region
+    // (created by the factory), return the number of boards. Boards reach the
+    // consumers in file order within a region, regions run concurrently.
+    public long parallelForEach(ForkJoinPool pool, Supplier<BoardConsumer> consumerFactory) throws IOException {
+        int regions = (int) Math.max(pool.getParallelism() * 4L, (fileSize + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE);
+        long[] bounds = splitRegions(regions);
+        return pool.invoke(new ParseRegions(bounds, 0, bounds.length - 1, consumerFactory));
+    }
+
+    // Time Complexity: O(regions) reads of a single line
+    // Split the file into about regionCount byte ranges that start at a record
+    private long[] splitRegions(int regionCount) throws IOException {
+        long step = Math.max(CELL_COUNT + 1, fileSize / regionCount);
+        long[] bounds = new long[regionCount + 1];
+        int count = 1;
+        long position = 0;
+        while (count < regionCount && position + step < fileSize) {
+            position = nextLineStart(position + step);
+            if (position >= fileSize) {
+                break;
+            }
+            bounds[count++] = position;
+        }
+        bounds[count++] = fileSize;
+
+        long[] result = new long[count];
+        System.arraycopy(bounds, 0, result, 0, count);
+        return result;
+    }
+
+    // Offset just after the first '\n' at or after position
+    private long nextLineStart(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (position < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+    // Time Complexity: O(n) in the region size, one pass over the mapped bytes
+    private long parseRegion(long start, long end, int[] cells, BoardConsumer consumer) throws IOException {
+        if (end <= start) {
+            return 0;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        int position = 0;
+        long count = 0;
+
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == '\n' || b == '\r') {
+                position++;
+                continue;
+            }
+            if (limit - position < CELL_COUNT) {
+                throw error("Truncated record", start + position);
+            }
+            for (int i = 0; i < CELL_COUNT; i++) {
+                int c = buffer.get(position + i);
+                if (c >= '0' && c <= '9') {
+                    cells[i] = c - '0';
+                } else if (c == '.') {
+                    cells[i] = 0;
+                } else {
+                    throw error("Invalid cell '" + (char) c + "'", start + position + i);
+                }
+            }
+            position += CELL_COUNT;
+            if (position < limit && buffer.get(position) != '\n' && buffer.get(position) != '\r') {
+                throw error("Record longer than 81 characters", start + position);
+            }
+            consumer.accept(cells);
+            count++;
+        }
+        return count;
+    }
+
+    private IllegalArgumentException error(String message, long offset) {
+        return new IllegalArgumentException(message + " (" + source + ", byte " + offset + ")");
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private class ParseRegions extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final Supplier<BoardConsumer> consumerFactory;
+
+        ParseRegions(long[] bounds, int from, int to, Supplier<BoardConsumer> consumerFactory) {
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.consumerFactory = consumerFactory;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1) {
+                try {
+                    return parseRegion(bounds[from], bounds[to], new int[CELL_COUNT], consumerFactory.get());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error reading file " + source, e);
+                }
+            }
+            int middle = (from + to) >>> 1;
+            ParseRegions left = new ParseRegions(bounds, from, middle, consumerFactory);
+            ParseRegions right = new ParseRegions(bounds, middle, to, consumerFactory);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+}
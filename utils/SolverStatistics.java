@@ -0,0 +1,111 @@
+package utils;
+
+import algorithms.SolveStats;
+import structures.ArrayList;
+import structures.List;
+
+// Aggregated solve counters and latency histograms per difficulty tier.
+// Each solve is recorded with its SolveStats (see
+// RMIT_Sudoku_Solver.solveWithStats): the wall time goes into the tier's
+// LatencyHistogram and the search counters are summed, so averages and
+// p50/p90/p99/max latencies can be reported per tier at any point.
+// Recording is O(1) and allocation-free once a tier exists. Not thread-safe.
+public class SolverStatistics {
+    private final List<TierStatistics> tiers = new ArrayList<>();
+
+    // Time Complexity: O(T) for T tiers
+    public void record(String tier, SolveStats stats, boolean solved) {
+        TierStatistics statistics = statisticsFor(tier);
+        statistics.latencies.record(stats.getWallNanos());
+        statistics.totals.add(stats);
+        if (solved) {
+            statistics.solved++;
+        }
+    }
+
+    private TierStatistics statisticsFor(String name) {
+        for (int i = 0; i < tiers.size(); i++) {
+            if (tiers.get(i).name.equals(name)) {
+                return tiers.get(i);
+            }
+        }
+        TierStatistics statistics = new TierStatistics(name);
+        tiers.add(statistics);
+        return statistics;
+    }
+
+    // Latencies of a tier, null if nothing was recorded for it
+    public LatencyHistogram getLatencies(String tier) {
+        TierStatistics statistics = find(tier);
+        return statistics != null ? statistics.latencies : null;
+    }
+
+    // Sum of the counters of a tier (the max depth is the deepest of any solve),
+    // null if nothing was recorded for it
+    public SolveStats getTotals(String tier) {
+        TierStatistics statistics = find(tier);
+        return statistics != null ? statistics.totals : null;
+    }
+
+    public long getSolved(String tier) {
+        TierStatistics statistics = find(tier);
+        return statistics != null ? statistics.solved : 0;
+    }
+
+    // Average counters per solve of a tier, as printed by printSummary
+    public String averages(String tier) {
+        TierStatistics statistics = find(tier);
+        return statistics != null ? statistics.averages() : "";
+    }
+
+    private TierStatistics find(String name) {
+        for (int i = 0; i < tiers.size(); i++) {
+            if (tiers.get(i).name.equals(name)) {
+                return tiers.get(i);
+            }
+        }
+        return null;
+    }
+
+    // Print, per tier, the latency percentiles and the average counters per solve
+    public void printSummary(String label) {
+        for (int i = 0; i < tiers.size(); i++) {
+            TierStatistics statistics = tiers.get(i);
+            System.out.printf("%s %s: %d/%d solved, Avg Time: %.4f ms, %s%n", label, statistics.name,
+                    statistics.solved, statistics.latencies.getCount(),
+                    statistics.latencies.getMeanNanos() / 1_000_000.0, statistics.latencies.summary());
+            System.out.println("  " + statistics.averages());
+        }
+    }
+
+    private static class TierStatistics {
+        final String name;
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final SolveStats totals = new SolveStats();
+        long solved = 0;
+
+        TierStatistics(String name) {
+            this.name = name;
+        }
+
+        // Average counters per solve, leaving out the ones the solver never filled
+        String averages() {
+            double n = Math.max(1, latencies.getCount());
+            StringBuilder line = new StringBuilder();
+            if (totals.getNodes() > 0) {
+                line.append(String.format("Avg Nodes: %.1f, Avg Backtracks: %.1f, Max Depth: %d, ",
+                        totals.getNodes() / n, totals.getBacktracks() / n, totals.getMaxDepth()));
+            }
+            if (totals.getPropagations() > 0) {
+                line.append(String.format("Avg Propagations: %.1f, ", totals.getPropagations() / n));
+            }
+            if (totals.getGenerations() > 0) {
+                line.append(String.format("Avg Generations: %.1f, ", totals.getGenerations() / n));
+            }
+            if (totals.getEvaluations() > 0) {
+                line.append(String.format("Avg Evaluations: %.1f, ", totals.getEvaluations() / n));
+            }
+            return line.length() > 0 ? line.substring(0, line.length() - 2) : "No search counters";
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package utils;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SolveContext;
+import structures.List;
+
+// Solve a batch of independent puzzles across all cores.
+// Work is split by index range on a work-stealing ForkJoinPool, results are
+// stored by input index so the output order always matches the input order.
+// Streams (e.g. SudokuPuzzleReader) are solved chunk by chunk, so memory stays
+// bounded by the chunk size whatever the number of boards.
+//
+// Thread-safety: solver instances keep mutable search state (step counters,
+// preallocated engines, DLX links) and are NOT thread-safe. The batch solver
+// therefore takes a factory and creates one solver per worker thread, which is
+// then reused for every puzzle that thread picks up.
+//
+// Time budget: every puzzle is solved under its own SolveContext of
+// puzzleBudgetMs, so one slow puzzle times out on its own instead of holding a
+// worker for the 2 minute default. When a batch context is passed, each puzzle
+// context is a fork(puzzleBudgetMs) of it: the batch deadline caps every
+// puzzle, and cancelling the batch context stops the running solves and fails
+// the puzzles not yet started (streams stop reading further chunks).
+public class SudokuBatchSolver {
+    private final ForkJoinPool pool;
+    private final ThreadLocal<RMIT_Sudoku_Solver> solvers;
+    private final String solverName;
+    private final long puzzleBudgetMs;
+
+    public SudokuBatchSolver(Supplier<RMIT_Sudoku_Solver> solverFactory) {
+        this(solverFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SudokuBatchSolver(Supplier<RMIT_Sudoku_Solver> solverFactory, int parallelism) {
+        this(solverFactory, parallelism, SolveContext.DEFAULT_BUDGET_MS);
+    }
+
+    public SudokuBatchSolver(Supplier<RMIT_Sudoku_Solver> solverFactory, int parallelism, long puzzleBudgetMs) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (puzzleBudgetMs < 0) {
+            throw new IllegalArgumentException("Puzzle time budget must not be negative.");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.solvers = ThreadLocal.withInitial(solverFactory);
+        this.solverName = solverFactory.get().getClass().getSimpleName();
+        this.puzzleBudgetMs = puzzleBudgetMs;
+    }
+
+    // Solve every puzzle, the input boards are copied and left untouched
+    public BatchResult solveAll(List<int[][]> puzzles) {
+        return solveAll(puzzles, null);
+    }
+
+    // Same, with every puzzle context forked from batch (see the class comment)
+    public BatchResult solveAll(List<int[][]> puzzles, SolveContext batch) {
+        int count = puzzles.size();
+        int[][][] boards = new int[count][][];
+        for (int i = 0; i < count; i++) {
+            boards[i] = puzzles.get(i);
+        }
+        return solveChunk(boards, count, batch);
+    }
+
+    // Solve a stream of puzzles chunkSize boards at a time, reporting every
+    // result to the listener in input order as soon as its chunk is done
+    public StreamSummary solveStream(Iterator<int[][]> puzzles, int chunkSize, ResultListener listener) {
+        return solveStream(puzzles, chunkSize, listener, null);
+    }
+
+    // Same, with every puzzle context forked from batch; once batch is
+    // cancelled or expired no further chunk is read
+    public StreamSummary solveStream(Iterator<int[][]> puzzles, int chunkSize, ResultListener listener,
+            SolveContext batch) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1.");
+        }
+        int[][][] chunk = new int[chunkSize][][];
+        StreamSummary summary = new StreamSummary(solverName);
+        long startTime = System.nanoTime();
+
+        while (puzzles.hasNext() && (batch == null || !(batch.isCancelled() || batch.isExpired()))) {
+            int count = 0;
+            while (count < chunkSize && puzzles.hasNext()) {
+                chunk[count++] = puzzles.next();
+            }
+
+            BatchResult result = solveChunk(chunk, count, batch);
+            for (int i = 0; i < count; i++) {
+                listener.onResult(summary.count + i, chunk[i], result.solutions[i], result.latencyNanos[i],
+                        result.errors[i]);
+                chunk[i] = null;
+            }
+            summary.count += count;
+            summary.solved += result.getSolvedCount();
+        }
+
+        summary.wallNanos = System.nanoTime() - startTime;
+        return summary;
+    }
+
+    private BatchResult solveChunk(int[][][] boards, int count, SolveContext batch) {
+        BatchResult result = new BatchResult(solverName, count);
+        // Several tasks per worker so that stealing can even out slow puzzles
+        int threshold = Math.max(1, count / (pool.getParallelism() * 8));
+
+        long startTime = System.nanoTime();
+        pool.invoke(new SolveRange(boards, result, batch, 0, count, threshold));
+        result.wallNanos = System.nanoTime() - startTime;
+        return result;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private class SolveRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][][] boards;
+        private final BatchResult result;
+        private final SolveContext batch;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SolveRange(int[][][] boards, BatchResult result, SolveContext batch, int from, int to, int threshold) {
+            this.boards = boards;
+            this.result = result;
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                RMIT_Sudoku_Solver solver = solvers.get();
+                for (int i = from; i < to; i++) {
+                    solveOne(solver, i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SolveRange(boards, result, batch, from, middle, threshold),
+                    new SolveRange(boards, result, batch, middle, to, threshold));
+        }
+
+        private void solveOne(RMIT_Sudoku_Solver solver, int index) {
+            int[][] puzzle = SudokuTestUtils.copy(boards[index]);
+            long startTime = System.nanoTime();
+            try {
+                SolveContext context = batch != null ? batch.fork(puzzleBudgetMs) : new SolveContext(puzzleBudgetMs);
+                context.check(); // a cancelled or expired batch fails the puzzle without solving it
+                int[][] solved = solver.solve(puzzle, context);
+                result.latencyNanos[index] = System.nanoTime() - startTime;
+                if (solved != null && isComplete(solved) && solver.isValidBoard(solved)) {
+                    result.solutions[index] = solved;
+                } else {
+                    result.errors[index] = "Invalid solution";
+                }
+            } catch (RuntimeException e) {
+                result.latencyNanos[index] = System.nanoTime() - startTime;
+                result.errors[index] = e.getMessage();
+            }
+        }
+    }
+
+    private static boolean isComplete(int[][] board) {
+        for (int[] row : board) {
+            for (int value : row) {
+                if (value == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Receives the result of every streamed puzzle, in input order
+    public interface ResultListener {
+        // solution is null and error is set when the puzzle was not solved
+        void onResult(long index, int[][] puzzle, int[][] solution, long latencyNanos, String error);
+    }
+
+    // Aggregate counters of a streamed batch
+    public static class StreamSummary {
+        private final String solverName;
+        private long count;
+        private long solved;
+        private long wallNanos;
+
+        StreamSummary(String solverName) {
+            this.solverName = solverName;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSolvedCount() {
+            return solved;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public double getThroughput() {
+            return wallNanos > 0 ? count / (wallNanos / 1_000_000_000.0) : 0;
+        }
+
+        public void printSummary(String source) {
+            System.out.printf("%s (stream): %d/%d solved from %s, Wall Time: %.2f ms, "
+                    + "Throughput: %.1f puzzles/sec%n",
+                    solverName, solved, count, source, wallNanos / 1_000_000.0, getThroughput());
+        }
+    }
+
+    // Per-puzzle results in input order plus aggregate throughput
+    public static class BatchResult {
+        private final String solverName;
+        private final int[][][] solutions;
+        private final long[] latencyNanos;
+        private final String[] errors;
+        private long wallNanos;
+
+        BatchResult(String solverName, int count) {
+            this.solverName = solverName;
+            this.solutions = new int[count][][];
+            this.latencyNanos = new long[count];
+            this.errors = new String[count];
+        }
+
+        public int size() {
+            return solutions.length;
+        }
+
+        // Solved board of puzzle i, or null if it was not solved
+        public int[][] getSolution(int i) {
+            return solutions[i];
+        }
+
+        public long getLatencyNanos(int i) {
+            return latencyNanos[i];
+        }
+
+        // Error message of puzzle i, or null if it was solved
+        public String getError(int i) {
+            return errors[i];
+        }
+
+        public int getSolvedCount() {
+            int solved = 0;
+            for (int[][] solution : solutions) {
+                if (solution != null) {
+                    solved++;
+                }
+            }
+            return solved;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        // Puzzles per second over the wall-clock time of the whole batch
+        public double getThroughput() {
+            return wallNanos > 0 ? size() / (wallNanos / 1_000_000_000.0) : 0;
+        }
+
+        public double getAverageLatencyMs() {
+            long total = 0;
+            for (long nanos : latencyNanos) {
+                total += nanos;
+            }
+            return size() > 0 ? total / 1_000_000.0 / size() : 0;
+        }
+
+        public void printSummary(String difficulty) {
+            System.out.printf("%s (batch): %d/%d solved on %s, Avg Latency: %.4f ms, Wall Time: %.2f ms, "
+                    + "Throughput: %.1f puzzles/sec%n",
+                    solverName, getSolvedCount(), size(), difficulty, getAverageLatencyMs(),
+                    wallNanos / 1_000_000.0, getThroughput());
+        }
+    }
+}
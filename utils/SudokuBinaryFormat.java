@@ -0,0 +1,265 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Compact binary storage for puzzles and solutions.
+// Layout: a 16-byte header (magic "SDKB", format version, record count) then
+// fixed-size records of 41 bytes, one 4-bit nibble per cell in row-major order
+// (high nibble first, 0 for empty). Fixed-size records give O(1) random access
+// by index: record i starts at HEADER_SIZE + i * RECORD_SIZE.
+// That is 41 bytes per board instead of ~162 for the 9-line text format.
+// Only 9x9 boards fit: a nibble holds the values 0-15 and the record size is
+// fixed, so other board sizes are rejected with IllegalArgumentException.
+public class SudokuBinaryFormat {
+    public static final int MAGIC = 0x53444B42; // "SDKB"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int CELL_COUNT = 81;
+    public static final int RECORD_SIZE = (CELL_COUNT + 1) / 2;
+
+    private static final int GRID_SIZE = 9;
+    private static final int BUFFER_RECORDS = 1024;
+
+    private SudokuBinaryFormat() {
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Pack a board into RECORD_SIZE bytes of dest starting at offset
+    public static void encode(int[][] board, byte[] dest, int offset) {
+        checkShape(board);
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            int high = cellAt(board, 2 * i);
+            int low = 2 * i + 1 < CELL_COUNT ? cellAt(board, 2 * i + 1) : 0;
+            dest[offset + i] = (byte) ((high << 4) | low);
+        }
+    }
+
+    // Time Complexity: O(81) = O(1)
+    // Unpack RECORD_SIZE bytes of src starting at offset into a 9x9 board
+    public static void decode(byte[] src, int offset, int[][] board) {
+        checkShape(board);
+        int row = 0;
+        int col = 0;
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            int packed = src[offset + i];
+            board[row][col] = (packed >> 4) & 0xF;
+            if (++col == GRID_SIZE) {
+                col = 0;
+                row++;
+            }
+            if (row < GRID_SIZE) { // the last byte only holds one cell
+                board[row][col] = packed & 0xF;
+                if (++col == GRID_SIZE) {
+                    col = 0;
+                    row++;
+                }
+            }
+        }
+    }
+
+    // Time Complexity: O(9) = O(1)
+    private static void checkShape(int[][] board) {
+        if (board == null) {
+            throw new IllegalArgumentException("Board must not be null.");
+        }
+        if (board.length != GRID_SIZE) {
+            throw new IllegalArgumentException("The binary format only stores 9x9 boards, got "
+                    + board.length + " rows.");
+        }
+        for (int row = 0; row < GRID_SIZE; row++) {
+            if (board[row] == null || board[row].length != GRID_SIZE) {
+                throw new IllegalArgumentException("The binary format only stores 9x9 boards, row " + row
+                        + " has " + (board[row] == null ? 0 : board[row].length) + " cells.");
+            }
+        }
+    }
+
+    private static int cellAt(int[][] board, int cell) {
+        int value = board[cell / GRID_SIZE][cell % GRID_SIZE];
+        if (value < 0 || value > 9) {
+            throw new IllegalArgumentException("Invalid cell value: " + value);
+        }
+        return value;
+    }
+
+    // Convert a text puzzle file (9-line or one-line format) to the binary
+    // format, return the number of boards written. A board that is not 9x9
+    // throws IllegalArgumentException and no binary file is left behind.
+    public static long convertTextFile(String textFile, String binaryFile) throws IOException {
+        try (SudokuPuzzleReader reader = new SudokuPuzzleReader(textFile);
+                Writer writer = new Writer(binaryFile)) {
+            while (reader.hasNext()) {
+                int[][] board = reader.next();
+                if (board.length != GRID_SIZE) {
+                    throw new IllegalArgumentException("Board #" + (writer.getRecordCount() + 1) + " of "
+                            + textFile + " is " + board.length + "x" + board.length
+                            + ", the binary format only stores 9x9 boards.");
+                }
+                writer.write(board);
+            }
+            return writer.getRecordCount();
+        } catch (IllegalArgumentException e) {
+            Files.deleteIfExists(Paths.get(binaryFile));
+            throw e;
+        }
+    }
+
+    // Appends boards to a new file; the record count in the header is written on close()
+    public static class Writer implements Closeable {
+        private final FileChannel channel;
+        private final byte[] record = new byte[RECORD_SIZE];
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * BUFFER_RECORDS);
+        private long recordCount = 0;
+
+        public Writer(String filename) throws IOException {
+            this(Paths.get(filename));
+        }
+
+        public Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeHeader(0);
+            channel.position(HEADER_SIZE);
+        }
+
+        public void write(int[][] board) throws IOException {
+            encode(board, record, 0);
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.put(record);
+            recordCount++;
+        }
+
+        public long getRecordCount() {
+            return recordCount;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void writeHeader(long count) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+            channel.write(header, 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                writeHeader(recordCount);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Random access and sequential reading of a binary puzzle file
+    public static class Reader implements Closeable {
+        private final FileChannel channel;
+        private final long recordCount;
+        private final String source;
+        private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+
+        public Reader(String filename) throws IOException {
+            this(Paths.get(filename));
+        }
+
+        public Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            source = path.toString();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                channel.close();
+                throw new IllegalArgumentException("Not a binary Sudoku file: " + source);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                channel.close();
+                throw new IllegalArgumentException("Unsupported binary Sudoku version " + version + ": " + source);
+            }
+            recordCount = header.getLong();
+            if (channel.size() < HEADER_SIZE + recordCount * RECORD_SIZE) {
+                channel.close();
+                throw new IllegalArgumentException("Truncated binary Sudoku file: " + source);
+            }
+        }
+
+        public long getRecordCount() {
+            return recordCount;
+        }
+
+        // Time Complexity: O(1) — one positional read of RECORD_SIZE bytes
+        // Decode record index into board
+        public void read(long index, int[][] board) throws IOException {
+            if (index < 0 || index >= recordCount) {
+                throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+            }
+            recordBuffer.clear();
+            long position = HEADER_SIZE + index * RECORD_SIZE;
+            while (recordBuffer.hasRemaining()) {
+                if (channel.read(recordBuffer, position + recordBuffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file: " + source);
+                }
+            }
+            decode(recordBuffer.array(), 0, board);
+        }
+
+        public int[][] read(long index) throws IOException {
+            int[][] board = new int[GRID_SIZE][GRID_SIZE];
+            read(index, board);
+            return board;
+        }
+
+        // Decode every record in order into one reusable board, reading
+        // BUFFER_RECORDS records per system call
+        public void forEach(BoardConsumer consumer) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * BUFFER_RECORDS);
+            int[][] board = new int[GRID_SIZE][GRID_SIZE];
+            long index = 0;
+            long position = HEADER_SIZE;
+            while (index < recordCount) {
+                int records = (int) Math.min(BUFFER_RECORDS, recordCount - index);
+                buffer.clear().limit(records * RECORD_SIZE);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of file: " + source);
+                    }
+                }
+                for (int i = 0; i < records; i++) {
+                    decode(buffer.array(), i * RECORD_SIZE, board);
+                    consumer.accept(index++, board);
+                }
+                position += (long) records * RECORD_SIZE;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Receives every board in file order; the board array is reused
+    public interface BoardConsumer {
+        void accept(long index, int[][] board);
+    }
+}
@@ -0,0 +1,330 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import algorithms.BitmaskEngine;
+import algorithms.ConstraintPropagator;
+import algorithms.SolveContext;
+import structures.ArrayList;
+import structures.BoardGeometry;
+import structures.List;
+
+// Generator of puzzles with exactly one solution.
+// 1. A random full grid is built by the MRV search of the bitmask engine, trying
+// the candidates of every cell in random order.
+// 2. Givens are removed one cell at a time in random order until the target
+// number of givens is reached. A removal is kept only if the puzzle stays
+// unique: the removed digit is eliminated from its cell and the engine searches
+// for any solution. None means the original digit was forced, which is cheaper
+// than counting solutions up to 2. Cells whose removal would break uniqueness
+// are kept, so a puzzle ends with more givens than the target when no further
+// cell can be removed.
+//
+// Bulk generation runs on a ForkJoinPool, in tasks of TASK_SIZE puzzles. Each
+// task gets its own SplittableRandom, split from the seed in task order on the
+// calling thread, so the same seed always yields the same puzzles whatever the
+// parallelism. Every pool thread has its own engine and propagator.
+public class SudokuGenerator {
+    private static final int TASK_SIZE = 16;
+    private static final int WRITE_CHUNK_SIZE = 1024;
+
+    private final BoardGeometry geometry;
+    private final SplittableRandom random;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers;
+
+    // Constructor - 9x9 puzzles on every core, with a random seed
+    public SudokuGenerator() {
+        this(3, new SplittableRandom().nextLong(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public SudokuGenerator(int boxSize, long seed, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        this.geometry = BoardGeometry.of(boxSize);
+        this.random = new SplittableRandom(seed);
+        this.pool = new ForkJoinPool(parallelism);
+        this.workers = ThreadLocal.withInitial(() -> new Worker(geometry));
+    }
+
+    // Number of givens aimed at for a difficulty tier of the 9x9 puzzle files,
+    // close to the average of the hand-made puzzles of that tier
+    public static int targetGivens(String tier) {
+        return switch (tier) {
+            case "easy" -> 49;
+            case "medium" -> 44;
+            case "hard" -> 38;
+            case "very_hard" -> 30;
+            default -> throw new IllegalArgumentException("Unknown difficulty tier: " + tier);
+        };
+    }
+
+    // Generate one puzzle on the calling thread
+    public int[][] generate(int targetGivens) {
+        return new Worker(geometry).generate(targetGivens, random.split());
+    }
+
+    // Generate count puzzles in parallel, in a reproducible order
+    public List<int[][]> generate(int count, int targetGivens) {
+        int[][][] puzzles = generateChunk(count, targetGivens);
+        List<int[][]> result = new ArrayList<>(count);
+        for (int[][] puzzle : puzzles) {
+            result.add(puzzle);
+        }
+        return result;
+    }
+
+    // Generate count puzzles into a file in the format read by
+    // SudokuIOHandling.loadSudokuPuzzles, WRITE_CHUNK_SIZE puzzles at a time so
+    // memory stays bounded whatever the count
+    public GenerationSummary generateToFile(String filename, long count, int targetGivens) throws IOException {
+        GenerationSummary summary = new GenerationSummary(geometry.size);
+        long startTime = System.nanoTime();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename), 1 << 16)) {
+            long remaining = count;
+            while (remaining > 0) {
+                int chunkSize = (int) Math.min(remaining, WRITE_CHUNK_SIZE);
+                for (int[][] puzzle : generateChunk(chunkSize, targetGivens)) {
+                    writer.write(SudokuIOHandling.formatBoard(puzzle));
+                    writer.newLine();
+                    summary.add(puzzle, targetGivens);
+                }
+                remaining -= chunkSize;
+            }
+        }
+        summary.wallNanos = System.nanoTime() - startTime;
+        return summary;
+    }
+
+    private int[][][] generateChunk(int count, int targetGivens) {
+        if (targetGivens < 0 || targetGivens > geometry.cellCount) {
+            throw new IllegalArgumentException("Target givens must be between 0 and " + geometry.cellCount + ".");
+        }
+        int[][][] puzzles = new int[count][][];
+        int taskCount = (count + TASK_SIZE - 1) / TASK_SIZE;
+        GenerateRange[] tasks = new GenerateRange[taskCount];
+        for (int t = 0; t < taskCount; t++) {
+            int from = t * TASK_SIZE;
+            tasks[t] = new GenerateRange(puzzles, from, Math.min(count, from + TASK_SIZE), targetGivens,
+                    random.split());
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return puzzles;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private class GenerateRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][][] puzzles;
+        private final int from;
+        private final int to;
+        private final int targetGivens;
+        private final SplittableRandom random;
+
+        GenerateRange(int[][][] puzzles, int from, int to, int targetGivens, SplittableRandom random) {
+            this.puzzles = puzzles;
+            this.from = from;
+            this.to = to;
+            this.targetGivens = targetGivens;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            Worker worker = workers.get();
+            for (int i = from; i < to; i++) {
+                puzzles[i] = worker.generate(targetGivens, random);
+            }
+        }
+    }
+
+    // Search state of one thread
+    private static class Worker {
+        private final BoardGeometry geometry;
+        private final BitmaskEngine engine;
+        private final ConstraintPropagator propagator = ConstraintPropagator.standard();
+        private final int[] order;
+
+        Worker(BoardGeometry geometry) {
+            this.geometry = geometry;
+            this.engine = new BitmaskEngine(geometry);
+            this.order = new int[geometry.cellCount];
+        }
+
+        // Time Complexity: O(C * S) for C cells and S the cost of one uniqueness search
+        int[][] generate(int targetGivens, SplittableRandom random) {
+            SolveContext context = new SolveContext();
+            int size = geometry.size;
+            int[][] puzzle = new int[size][size];
+            engine.load(puzzle);
+            if (!fill(random, context)) {
+                throw new IllegalStateException("No full grid found."); // an empty board always has one
+            }
+            engine.writeTo(puzzle);
+
+            for (int cell = 0; cell < order.length; cell++) {
+                order[cell] = cell;
+            }
+            shuffle(order, random);
+
+            int givens = geometry.cellCount;
+            for (int i = 0; i < order.length && givens > targetGivens; i++) {
+                int row = geometry.row(order[i]);
+                int col = geometry.col(order[i]);
+                int digit = puzzle[row][col];
+                puzzle[row][col] = 0;
+                if (hasOtherSolution(puzzle, order[i], digit, context)) {
+                    puzzle[row][col] = digit;
+                } else {
+                    givens--;
+                }
+            }
+            return puzzle;
+        }
+
+        // Randomized MRV search that completes the loaded board
+        private boolean fill(SplittableRandom random, SolveContext context) {
+            context.checkpoint();
+            if (!propagator.propagate(engine)) {
+                return false;
+            }
+            int cell = engine.mostConstrainedCell();
+            if (cell < 0) {
+                return true;
+            }
+
+            int candidates = engine.candidates(cell);
+            while (candidates != 0) {
+                // A uniformly chosen remaining candidate
+                int skip = random.nextInt(Integer.bitCount(candidates));
+                int bits = candidates;
+                for (int k = 0; k < skip; k++) {
+                    bits &= bits - 1;
+                }
+                int bit = bits & -bits;
+                candidates &= ~bit;
+
+                engine.push();
+                engine.assign(cell, BitmaskEngine.lowestDigit(bit));
+                if (fill(random, context)) {
+                    return true;
+                }
+                engine.pop();
+            }
+            return false;
+        }
+
+        // Whether the puzzle has a solution other than digit in the emptied cell
+        private boolean hasOtherSolution(int[][] puzzle, int cell, int digit, SolveContext context) {
+            engine.load(puzzle);
+            engine.eliminate(cell, BitmaskEngine.bitOf(digit));
+            return search(context);
+        }
+
+        // Same MRV + propagation search as ConstraintSatisfaction
+        private boolean search(SolveContext context) {
+            context.checkpoint();
+            if (!propagator.propagate(engine)) {
+                return false;
+            }
+            int cell = engine.mostConstrainedCell();
+            if (cell < 0) {
+                return true;
+            }
+
+            int candidates = engine.candidates(cell);
+            while (candidates != 0) {
+                int digit = BitmaskEngine.lowestDigit(candidates);
+                candidates &= candidates - 1;
+                engine.push();
+                engine.assign(cell, digit);
+                if (search(context)) {
+                    return true;
+                }
+                engine.pop();
+            }
+            return false;
+        }
+
+        private static void shuffle(int[] values, SplittableRandom random) {
+            for (int i = values.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+    }
+
+    // Counters of a bulk generation run
+    public static class GenerationSummary {
+        private final int size;
+        private long count;
+        private long totalGivens;
+        private long onTarget;
+        private long wallNanos;
+
+        GenerationSummary(int size) {
+            this.size = size;
+        }
+
+        void add(int[][] puzzle, int targetGivens) {
+            int givens = 0;
+            for (int[] row : puzzle) {
+                for (int value : row) {
+                    if (value != 0) {
+                        givens++;
+                    }
+                }
+            }
+            count++;
+            totalGivens += givens;
+            if (givens == targetGivens) {
+                onTarget++;
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getAverageGivens() {
+            return count > 0 ? (double) totalGivens / count : 0;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        // Puzzles per second over the wall-clock time of the whole run
+        public double getThroughput() {
+            return wallNanos > 0 ? count / (wallNanos / 1_000_000_000.0) : 0;
+        }
+
+        public void printSummary(String target) {
+            System.out.printf("SudokuGenerator (%dx%d, %s): %d puzzles, %d on target, Avg Givens: %.2f, "
+                    + "Wall Time: %.2f ms, Throughput: %.1f puzzles/sec%n",
+                    size, size, target, count, onTarget, getAverageGivens(), wallNanos / 1_000_000.0,
+                    getThroughput());
+        }
+    }
+}
@@ -3,8 +3,10 @@ package utils;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.stream.Stream;
 
 import structures.ArrayList;
+import structures.BoardGeometry;
 import structures.List;
 
 public class SudokuIOHandling {
@@ -13,38 +15,48 @@ public class SudokuIOHandling {
     // Each line has 9 space-separated numbers (0–9). Return the boards in the form
     // of List<int[][]>.
     // Validate format and values. On error, print a message and return null.
+    //
+    // Generalized to N×N boards (16×16, 25×25): the size of each board is taken
+    // from the number of values on its first row, which must be a supported
+    // perfect square (see BoardGeometry), and every value must be in 0–N.
+    // Boards of different sizes may be mixed in one file.
 
     public static List<int[][]> loadSudokuPuzzles(String filename) {
         List<int[][]> boards = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
             String line;
             int[][] board = null;
+            int size = 0;
             int row = 0;
 
             while ((line = reader.readLine()) != null) {
                 if (line.trim().isEmpty()) {
-                    if (board != null && row == 9) {
+                    if (board != null && row == size) {
                         boards.add(board);
                     }
-                    board = new int[9][9];
+                    board = null;
                     row = 0;
                     continue;
                 }
 
                 String[] values = line.trim().split("\\s+");
-                if (values.length != 9) {
+                if (board == null) {
+                    size = values.length;
+                    if (BoardGeometry.boxSizeOf(size) < 0) {
+                        System.out.println("Invalid row format in file " + filename + ": " + line);
+                        return null;
+                    }
+                    board = new int[size][size];
+                }
+                if (values.length != size) {
                     System.out.println("Invalid row format in file " + filename + ": " + line);
                     return null;
                 }
 
-                if (board == null) {
-                    board = new int[9][9];
-                }
-
-                for (int col = 0; col < 9; col++) {
+                for (int col = 0; col < size; col++) {
                     try {
                         int value = Integer.parseInt(values[col]);
-                        if (value < 0 || value > 9) {
+                        if (value < 0 || value > size) {
                             System.out.println("Invalid number in file " + filename + ": " + value);
                             return null;
                         }
@@ -56,21 +68,40 @@ public class SudokuIOHandling {
                 }
                 row++;
 
-                if (row == 9) {
+                if (row == size) {
                     boards.add(board);
                     board = null;
                     row = 0;
                 }
             }
 
-            if (board != null && row == 9) {
-                boards.add(board);
-            }
-
             return boards.size() == 0 ? null : boards;
         } catch (IOException e) {
             System.out.println("Error reading file " + filename + ": " + e.getMessage());
             return null;
         }
     }
+
+    // One board in the format read by loadSudokuPuzzles: one row per line,
+    // values separated by single spaces
+    public static String formatBoard(int[][] board) {
+        StringBuilder text = new StringBuilder();
+        for (int[] row : board) {
+            for (int col = 0; col < row.length; col++) {
+                if (col > 0) {
+                    text.append(' ');
+                }
+                text.append(row[col]);
+            }
+            text.append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+
+    // Lazily stream the boards of a file of any size, in the format above or the
+    // one-line format (81 characters for 9x9), without building a list. Close the stream
+    // (try-with-resources) to release the file.
+    public static Stream<int[][]> streamSudokuPuzzles(String filename) throws IOException {
+        return new SudokuPuzzleReader(filename).stream();
+    }
 }
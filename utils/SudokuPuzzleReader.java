@@ -0,0 +1,220 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.BoardGeometry;
+
+// Lazy, bounded-memory reader for puzzle files of any size.
+// Boards are parsed one at a time as the iterator advances, so only the current
+// line and board are held in memory. Two formats are accepted, and may be mixed
+// in the same file:
+// - the N-line format read by SudokuIOHandling: N rows of N space-separated
+// numbers, boards separated by blank lines; N is the number of values on the
+// board's first row (9, 16, 25)
+// - the one-line format: N^2 characters per board (81, 256 or 625), '0' or '.'
+// for empty cells, '1'-'9' then 'A', 'B', ... for the values from 10 up
+// A malformed board throws IllegalArgumentException with the line number.
+public class SudokuPuzzleReader implements Iterator<int[][]>, Closeable {
+
+    private final BufferedReader reader;
+    private final String source;
+    private int lineNumber = 0;
+    private int[][] nextBoard;
+
+    public SudokuPuzzleReader(String filename) throws IOException {
+        this(new FileReader(filename), filename);
+    }
+
+    public SudokuPuzzleReader(Reader reader, String source) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader
+                : new BufferedReader(reader, 1 << 16);
+        this.source = source;
+    }
+
+    // Stream view of the remaining boards; closing the stream closes the file
+    public Stream<int[][]> stream() {
+        Spliterator<int[][]> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextBoard == null) {
+            try {
+                nextBoard = readBoard();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading file " + source, e);
+            }
+        }
+        return nextBoard != null;
+    }
+
+    @Override
+    public int[][] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int[][] board = nextBoard;
+        nextBoard = null;
+        return board;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Read the next board in either format, or return null at end of file
+    private int[][] readBoard() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+
+        int oneLineSize = oneLineBoardSize(line);
+        if (oneLineSize > 0) {
+            int[][] board = new int[oneLineSize][oneLineSize];
+            parseOneLine(line, board);
+            return board;
+        }
+
+        int size = countValues(line);
+        if (BoardGeometry.boxSizeOf(size) < 0) {
+            throw error("Invalid row format: " + line);
+        }
+        int[][] board = new int[size][size];
+        parseRow(line, board[0]);
+        for (int row = 1; row < size; row++) {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null || line.trim().isEmpty()) {
+                throw error("Incomplete board, expected " + size + " rows");
+            }
+            parseRow(line, board[row]);
+        }
+        return board;
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.trim().isEmpty()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    // A token of N^2 characters with no separators is a one-line board; return
+    // its side N, or 0 when the line is a row of the N-line format
+    private static int oneLineBoardSize(String line) {
+        String trimmed = line.trim();
+        if (trimmed.indexOf(' ') >= 0 || trimmed.indexOf('\t') >= 0) {
+            return 0;
+        }
+        for (int boxSize = BoardGeometry.MIN_BOX_SIZE; boxSize <= BoardGeometry.MAX_BOX_SIZE; boxSize++) {
+            int size = boxSize * boxSize;
+            if (trimmed.length() == size * size) {
+                return size;
+            }
+        }
+        return 0;
+    }
+
+    // Time Complexity: O(N^2)
+    private void parseOneLine(String line, int[][] board) {
+        String trimmed = line.trim();
+        int size = board.length;
+        for (int cell = 0; cell < size * size; cell++) {
+            char c = trimmed.charAt(cell);
+            int value;
+            if (c == '.') {
+                value = 0;
+            } else if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                value = c - 'A' + 10;
+            } else if (c >= 'a' && c <= 'z') {
+                value = c - 'a' + 10;
+            } else {
+                value = -1;
+            }
+            if (value < 0 || value > size) {
+                throw error("Invalid cell '" + c + "'");
+            }
+            board[cell / size][cell % size] = value;
+        }
+    }
+
+    // Number of whitespace-separated values on a line
+    private static int countValues(String line) {
+        int count = 0;
+        boolean inValue = false;
+        for (int i = 0; i < line.length(); i++) {
+            boolean separator = line.charAt(i) == ' ' || line.charAt(i) == '\t';
+            if (!separator && !inValue) {
+                count++;
+            }
+            inValue = !separator;
+        }
+        return count;
+    }
+
+    // Parse N whitespace-separated numbers without splitting the line
+    private void parseRow(String line, int[] row) {
+        int col = 0;
+        int i = 0;
+        int length = line.length();
+        while (i < length) {
+            char c = line.charAt(i);
+            if (c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            int value = 0;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                c = line.charAt(i);
+                if (c < '0' || c > '9' || value > row.length) {
+                    throw error("Invalid number in row: " + line);
+                }
+                value = value * 10 + (c - '0');
+                i++;
+            }
+            if (value > row.length) {
+                throw error("Invalid number in row: " + line);
+            }
+            if (col == row.length) {
+                throw error("Invalid row format: " + line);
+            }
+            row[col++] = value;
+        }
+        if (col != row.length) {
+            throw error("Invalid row format: " + line);
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " (" + source + ", line " + lineNumber + ")");
+    }
+}
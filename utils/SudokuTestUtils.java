@@ -1,27 +1,35 @@
 package utils;
 
 import algorithms.RMIT_Sudoku_Solver;
+import algorithms.SolveContext;
 import structures.List;
 
 public class SudokuTestUtils {
     public static void testSolver(RMIT_Sudoku_Solver solver, List<int[][]> puzzles, String difficulty,
             boolean printErrorDetails) {
+        testSolver(solver, puzzles, difficulty, printErrorDetails, new SolverStatistics());
+    }
+
+    // Same, also recording every solve (solved or not) into statistics under
+    // the difficulty, so that several runs can be aggregated
+    public static void testSolver(RMIT_Sudoku_Solver solver, List<int[][]> puzzles, String difficulty,
+            boolean printErrorDetails, SolverStatistics statistics) {
         int correctCount = 0;
-        long totalTime = 0;
         int puzzleCount = puzzles.size();
         boolean hasException = false;
+        SolverStatistics run = new SolverStatistics();
 
         for (int i = 0; i < puzzleCount; i++) {
             int[][] puzzle = copy(puzzles.get(i));
+            SolveContext context = new SolveContext();
+            boolean solved = false;
             try {
-                long startTime = System.nanoTime();
-                int[][] solved = solver.solve(puzzle);
-                long endTime = System.nanoTime();
-                totalTime += (endTime - startTime);
+                int[][] solution = solver.solveWithStats(puzzle, context).getSolution();
 
-                if (solved != null && solver.isValidBoard(solved)) {
+                if (solution != null && isSolutionOf(solution, puzzles.get(i), solver)) {
                     correctCount++;
-                } else if (solved != null && printErrorDetails) {
+                    solved = true;
+                } else if (solution != null && printErrorDetails) {
                     System.out.printf("%s produced an invalid board for %s puzzle #%d:%n",
                             solver.getClass().getSimpleName(), difficulty, i + 1);
                 }
@@ -30,23 +38,81 @@ public class SudokuTestUtils {
                         solver.getClass().getSimpleName(), difficulty, i + 1, e.getMessage());
                 hasException = true;
             }
+            run.record(difficulty, context.getStats(), solved);
+            statistics.record(difficulty, context.getStats(), solved);
         }
 
         if (!hasException) {
-            double avgTimeMs = puzzleCount > 0 ? totalTime / 1_000_000.0 / puzzleCount : 0;
-            System.out.printf("%s: %d/%d solved correctly, Avg Time: %.4f ms%n",
+            LatencyHistogram latencies = run.getLatencies(difficulty);
+            double avgTimeMs = latencies != null ? latencies.getMeanNanos() / 1_000_000.0 : 0;
+            System.out.printf("%s: %d/%d solved correctly, Avg Time: %.4f ms%s%n",
                     solver.getClass().getSimpleName(),
-                    correctCount, puzzleCount, avgTimeMs);
+                    correctCount, puzzleCount, avgTimeMs,
+                    latencies != null ? ", " + latencies.summary() : "");
+            System.out.println("  " + run.averages(difficulty));
         }
     }
 
-    public static int[][] copy(int[][] original) {
-        int[][] copyboard = new int[9][9];
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                copyboard[i][j] = original[i][j];
+    // Time Complexity: O(N^2)
+    // Complete, no conflicts, and every given of the puzzle kept in place
+    public static boolean isSolutionOf(int[][] solution, int[][] puzzle, RMIT_Sudoku_Solver solver) {
+        if (solution.length != puzzle.length) {
+            return false;
+        }
+        for (int row = 0; row < puzzle.length; row++) {
+            if (solution[row].length != puzzle.length) {
+                return false;
+            }
+            for (int column = 0; column < puzzle.length; column++) {
+                int value = solution[row][column];
+                if (value < 1 || value > puzzle.length) {
+                    return false;
+                }
+                if (puzzle[row][column] != 0 && puzzle[row][column] != value) {
+                    return false;
+                }
+            }
+        }
+        return solver.isValidBoard(solution);
+    }
+
+    // Check that every puzzle has exactly one solution, stopping each count at 2
+    public static void testUniqueness(RMIT_Sudoku_Solver solver, List<int[][]> puzzles, String difficulty) {
+        int uniqueCount = 0;
+        int puzzleCount = puzzles.size();
+        long totalTime = 0;
+
+        for (int i = 0; i < puzzleCount; i++) {
+            try {
+                long startTime = System.nanoTime();
+                int solutions = solver.countSolutions(puzzles.get(i), 2);
+                totalTime += System.nanoTime() - startTime;
+
+                if (solutions == 1) {
+                    uniqueCount++;
+                } else {
+                    System.out.printf("%s puzzle #%d has %s%n", difficulty, i + 1,
+                            solutions == 0 ? "no solution" : "multiple solutions");
+                }
+            } catch (RuntimeException e) {
+                System.out.printf("%s algorithm error message on %s puzzle #%d: %s%n",
+                        solver.getClass().getSimpleName(), difficulty, i + 1, e.getMessage());
             }
         }
+
+        double avgTimeMs = puzzleCount > 0 ? totalTime / 1_000_000.0 / puzzleCount : 0;
+        System.out.printf("%s: %d/%d puzzles have a unique solution, Avg Check Time: %.4f ms%n",
+                solver.getClass().getSimpleName(), uniqueCount, puzzleCount, avgTimeMs);
+    }
+
+    // Copy a board row by row with System.arraycopy; code that copies boards in
+    // a loop should prefer structures.Board, where a copy is a single arraycopy
+    public static int[][] copy(int[][] original) {
+        int[][] copyboard = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            copyboard[i] = new int[original[i].length];
+            System.arraycopy(original[i], 0, copyboard[i], 0, original[i].length);
+        }
         return copyboard;
     }
 }
\ No newline at end of file